@@ -0,0 +1,33 @@
+package com.testspector.controller;
+
+import com.testspector.model.checking.BestPracticeViolation;
+import com.testspector.model.enums.BestPractice;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+class FileAnalysis {
+
+    private final ConcurrentMap<BestPractice, List<BestPracticeViolation>> violations = new ConcurrentHashMap<>();
+
+    List<BestPracticeViolation> getViolations(BestPractice bestPractice,
+                                              Set<BestPractice> enabledBestPractices,
+                                              Function<Set<BestPractice>, Map<BestPractice, List<BestPracticeViolation>>> analyzer) {
+        List<BestPracticeViolation> bestPracticeViolations = violations.get(bestPractice);
+        if (bestPracticeViolations == null) {
+            Set<BestPractice> notAnalyzedBestPractices = EnumSet.of(bestPractice);
+            enabledBestPractices.stream()
+                    .filter(enabledBestPractice -> !violations.containsKey(enabledBestPractice))
+                    .forEach(notAnalyzedBestPractices::add);
+            Map<BestPractice, List<BestPracticeViolation>> analyzedViolations = analyzer.apply(notAnalyzedBestPractices);
+            for (BestPractice analyzedBestPractice : notAnalyzedBestPractices) {
+                violations.putIfAbsent(analyzedBestPractice, Collections.unmodifiableList(
+                        analyzedViolations.getOrDefault(analyzedBestPractice, Collections.emptyList())));
+            }
+            bestPracticeViolations = violations.get(bestPractice);
+        }
+        return bestPracticeViolations;
+    }
+}
@@ -1,37 +1,50 @@
 package com.testspector.controller;
 
 import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInsight.daemon.HighlightDisplayKey;
 import com.intellij.codeInspection.InspectionManager;
 import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.ex.*;
 import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.profile.codeInspection.InspectionProjectProfileManager;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.testspector.model.checking.BestPracticeCheckingStrategy;
 import com.testspector.model.checking.BestPracticeViolation;
 import com.testspector.model.checking.factory.BestPracticeCheckingStrategyFactory;
 import com.testspector.model.checking.factory.BestPracticeCheckingStrategyFactoryProvider;
 import com.testspector.model.checking.factory.ProgrammingLanguageFactory;
 import com.testspector.model.checking.factory.UnitTestFrameworkFactoryProvider;
+import com.testspector.model.checking.java.common.LibraryAssertionCatalog;
+import com.testspector.model.checking.java.junit.IntegrationTestClassifier;
 import com.testspector.model.enums.BestPractice;
 import com.testspector.model.enums.ProgrammingLanguage;
 import com.testspector.model.enums.UnitTestFramework;
 import com.testspector.view.inspection.BestPracticeInspection;
 import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public final class TestspectorController {
 
+    private static final Key<CachedValue<FileAnalysis>> FILE_ANALYSIS_KEY = Key.create("testspector.fileAnalysis");
+    private static final Key<ConcurrentMap<Pair<ProgrammingLanguage, UnitTestFramework>, Optional<BestPracticeCheckingStrategyFactory>>> CHECKING_STRATEGY_FACTORIES_KEY =
+            Key.create("testspector.checkingStrategyFactories");
     private final Project project;
-    private static Pair<LocalInspectionToolSession, BestPracticeCheckingStrategyFactory> sessionBestPracticeCheckingStrategyFactoryPair = Pair.of(null, null);
+    private final ConcurrentMap<Pair<ProgrammingLanguage, UnitTestFramework>, Optional<BestPracticeCheckingStrategyFactory>> projectCheckingStrategyFactories = new ConcurrentHashMap<>();
+    private final AtomicLong checkingStrategyFactoryCacheHits = new AtomicLong();
+    private final AtomicLong checkingStrategyFactoryCacheMisses = new AtomicLong();
 
     public TestspectorController(Project project) {
         this.project = project;
@@ -63,7 +76,24 @@ public final class TestspectorController {
 
 
     public List<BestPracticeViolation> inspectFile(PsiFile file, BestPractice bestPractice, LocalInspectionToolSession session) {
-        List<BestPracticeViolation> bestPracticeViolations = new ArrayList<>();
+        FileAnalysis fileAnalysis = CachedValuesManager.getCachedValue(file, FILE_ANALYSIS_KEY, () ->
+                CachedValueProvider.Result.create(
+                        new FileAnalysis(),
+                        PsiModificationTracker.MODIFICATION_COUNT,
+                        project.getService(IntegrationTestClassifier.class).getRulesModificationTracker(),
+                        LibraryAssertionCatalog.getInstance().getModificationTracker()));
+        return new ArrayList<>(fileAnalysis.getViolations(
+                bestPractice,
+                getEnabledBestPractices(file),
+                bestPractices -> analyzeFile(file, bestPractices, session)));
+    }
+
+    private Map<BestPractice, List<BestPracticeViolation>> analyzeFile(PsiFile file, Set<BestPractice> bestPractices, LocalInspectionToolSession session) {
+        Map<BestPractice, List<BestPracticeViolation>> bestPracticeViolations = new EnumMap<>(BestPractice.class);
+        bestPractices.forEach(bestPractice -> bestPracticeViolations.put(bestPractice, new ArrayList<>()));
+        if (project.getService(IntegrationTestClassifier.class).isIntegrationTestFile(file)) {
+            return bestPracticeViolations;
+        }
         Optional<ProgrammingLanguage> optionalProgrammingLanguage = project.getService(ProgrammingLanguageFactory.class)
                 .getProgrammingLanguage(file);
         if (optionalProgrammingLanguage.isPresent()) {
@@ -71,16 +101,30 @@ public final class TestspectorController {
             List<UnitTestFramework> unitTestFrameworks = gatherUnitTestFrameworks(file, programmingLanguage);
             for (UnitTestFramework unitTestFramework : unitTestFrameworks) {
                 Optional<BestPracticeCheckingStrategy<PsiElement>> optionalBestPracticeCheckingStrategy =
-                        tryToGetCheckingStrategy(session, bestPractice, unitTestFramework, programmingLanguage);
+                        tryToGetCheckingStrategy(session, bestPractices, unitTestFramework, programmingLanguage);
                 List<BestPracticeViolation> foundViolations = optionalBestPracticeCheckingStrategy
                         .map(checkingStrategy -> checkingStrategy.checkBestPractices(file))
                         .orElse(new ArrayList<>());
-                bestPracticeViolations.addAll(foundViolations);
+                foundViolations.stream()
+                        .filter(violation -> bestPracticeViolations.containsKey(violation.getViolatedBestPractice()))
+                        .forEach(violation -> bestPracticeViolations.get(violation.getViolatedBestPractice()).add(violation));
             }
         }
         return bestPracticeViolations;
     }
 
+    private Set<BestPractice> getEnabledBestPractices(PsiFile file) {
+        InspectionProfileImpl inspectionProfile = InspectionProjectProfileManager.getInstance(this.project).getCurrentProfile();
+        Set<BestPractice> enabledBestPractices = EnumSet.noneOf(BestPractice.class);
+        for (BestPractice bestPractice : BestPractice.values()) {
+            HighlightDisplayKey highlightDisplayKey = HighlightDisplayKey.find(bestPractice.name());
+            if (highlightDisplayKey != null && inspectionProfile.isToolEnabled(highlightDisplayKey, file)) {
+                enabledBestPractices.add(bestPractice);
+            }
+        }
+        return enabledBestPractices;
+    }
+
     private List<UnitTestFramework> gatherUnitTestFrameworks(PsiFile file, ProgrammingLanguage programmingLanguage) {
         return project
                 .getService(UnitTestFrameworkFactoryProvider.class)
@@ -92,19 +136,34 @@ public final class TestspectorController {
                 .collect(Collectors.toList());
     }
 
-    private Optional<BestPracticeCheckingStrategy<PsiElement>> tryToGetCheckingStrategy(LocalInspectionToolSession session, BestPractice bestPractice, UnitTestFramework unitTestFramework, ProgrammingLanguage programmingLanguage) {
-        Optional<BestPracticeCheckingStrategy<PsiElement>> optionalBestPracticeCheckingStrategy;
-        if (session == sessionBestPracticeCheckingStrategyFactoryPair.getLeft()) {
-            optionalBestPracticeCheckingStrategy = Optional.ofNullable(sessionBestPracticeCheckingStrategyFactoryPair.getRight().getBestPracticeCheckingStrategy(bestPractice));
-        } else {
-            optionalBestPracticeCheckingStrategy = project
-                    .getService(BestPracticeCheckingStrategyFactoryProvider.class)
-                    .getBestPracticeCheckingStrategyFactory(programmingLanguage, unitTestFramework)
-                    .map(bestPracticeCheckingStrategyFactory -> {
-                        sessionBestPracticeCheckingStrategyFactoryPair = Pair.of(session, bestPracticeCheckingStrategyFactory);
-                        return bestPracticeCheckingStrategyFactory.getBestPracticeCheckingStrategy(bestPractice);
-                    });
+    private Optional<BestPracticeCheckingStrategy<PsiElement>> tryToGetCheckingStrategy(LocalInspectionToolSession session, Set<BestPractice> bestPractices, UnitTestFramework unitTestFramework, ProgrammingLanguage programmingLanguage) {
+        return getCheckingStrategyFactory(session, programmingLanguage, unitTestFramework)
+                .map(bestPracticeCheckingStrategyFactory -> bestPracticeCheckingStrategyFactory.getBestPracticeCheckingStrategy(bestPractices));
+    }
+
+    private Optional<BestPracticeCheckingStrategyFactory> getCheckingStrategyFactory(LocalInspectionToolSession session, ProgrammingLanguage programmingLanguage, UnitTestFramework unitTestFramework) {
+        ConcurrentMap<Pair<ProgrammingLanguage, UnitTestFramework>, Optional<BestPracticeCheckingStrategyFactory>> checkingStrategyFactories = session != null ?
+                session.putUserDataIfAbsent(CHECKING_STRATEGY_FACTORIES_KEY, new ConcurrentHashMap<>()) :
+                projectCheckingStrategyFactories;
+        Pair<ProgrammingLanguage, UnitTestFramework> languageAndFramework = Pair.of(programmingLanguage, unitTestFramework);
+        Optional<BestPracticeCheckingStrategyFactory> cachedFactory = checkingStrategyFactories.get(languageAndFramework);
+        if (cachedFactory != null) {
+            checkingStrategyFactoryCacheHits.incrementAndGet();
+            return cachedFactory;
         }
-        return optionalBestPracticeCheckingStrategy;
+        return checkingStrategyFactories.computeIfAbsent(languageAndFramework, key -> {
+            checkingStrategyFactoryCacheMisses.incrementAndGet();
+            return project
+                    .getService(BestPracticeCheckingStrategyFactoryProvider.class)
+                    .getBestPracticeCheckingStrategyFactory(programmingLanguage, unitTestFramework);
+        });
+    }
+
+    public long getCheckingStrategyFactoryCacheHits() {
+        return checkingStrategyFactoryCacheHits.get();
+    }
+
+    public long getCheckingStrategyFactoryCacheMisses() {
+        return checkingStrategyFactoryCacheMisses.get();
     }
 }
@@ -3,10 +3,20 @@ package com.testspector.model.checking.factory;
 import com.intellij.psi.PsiElement;
 import com.testspector.model.checking.BestPracticeCheckingStrategy;
 import com.testspector.model.enums.BestPractice;
+import com.testspector.model.enums.ProgrammingLanguage;
+import com.testspector.model.enums.UnitTestFramework;
+
+import java.util.Set;
 
 public interface BestPracticeCheckingStrategyFactory {
 
+    ProgrammingLanguage getProgrammingLanguage();
+
+    UnitTestFramework getUnitTestFramework();
+
     BestPracticeCheckingStrategy<PsiElement> getBestPracticeCheckingStrategy();
 
     BestPracticeCheckingStrategy<PsiElement> getBestPracticeCheckingStrategy(BestPractice bestPractice);
+
+    BestPracticeCheckingStrategy<PsiElement> getBestPracticeCheckingStrategy(Set<BestPractice> bestPractices);
 }
@@ -1,20 +1,20 @@
 package com.testspector.model.checking.factory;
 
-import com.testspector.model.checking.java.junit.JUnitBestPracticeCheckingStrategyFactory;
+import com.intellij.openapi.extensions.ExtensionPointName;
 import com.testspector.model.enums.ProgrammingLanguage;
 import com.testspector.model.enums.UnitTestFramework;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 public class BestPracticeCheckingStrategyFactoryProvider {
 
+    private static final ExtensionPointName<BestPracticeCheckingStrategyFactory> EP_NAME = ExtensionPointName.create("com.testspector.bestPracticeCheckingStrategyFactory");
 
     public Optional<BestPracticeCheckingStrategyFactory> getBestPracticeCheckingStrategyFactory(ProgrammingLanguage programmingLanguage, UnitTestFramework unitTestFramework) {
-        if (programmingLanguage == ProgrammingLanguage.JAVA) {
-            if (unitTestFramework == UnitTestFramework.JUNIT) {
-                return Optional.of(new JUnitBestPracticeCheckingStrategyFactory());
+        for (BestPracticeCheckingStrategyFactory bestPracticeCheckingStrategyFactory : EP_NAME.getExtensionList()) {
+            if (bestPracticeCheckingStrategyFactory.getProgrammingLanguage() == programmingLanguage &&
+                    bestPracticeCheckingStrategyFactory.getUnitTestFramework() == unitTestFramework) {
+                return Optional.of(bestPracticeCheckingStrategyFactory);
             }
         }
         return Optional.empty();
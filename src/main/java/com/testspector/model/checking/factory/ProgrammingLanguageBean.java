@@ -0,0 +1,23 @@
+package com.testspector.model.checking.factory;
+
+import com.intellij.lang.Language;
+import com.intellij.util.xmlb.annotations.Attribute;
+import com.testspector.model.enums.ProgrammingLanguage;
+
+public class ProgrammingLanguageBean {
+
+    @Attribute("language")
+    public String language;
+
+    @Attribute("programmingLanguage")
+    public String programmingLanguage;
+
+    public boolean isLanguageOf(Language fileLanguage) {
+        Language registeredLanguage = Language.findLanguageByID(language);
+        return registeredLanguage != null && fileLanguage != null && fileLanguage.isKindOf(registeredLanguage);
+    }
+
+    public ProgrammingLanguage getProgrammingLanguage() {
+        return ProgrammingLanguage.valueOf(programmingLanguage);
+    }
+}
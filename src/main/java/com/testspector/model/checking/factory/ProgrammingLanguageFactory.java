@@ -1,7 +1,7 @@
 package com.testspector.model.checking.factory;
 
 import com.intellij.lang.Language;
-import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.extensions.ExtensionPointName;
 import com.intellij.psi.PsiElement;
 import com.testspector.model.enums.ProgrammingLanguage;
 
@@ -10,12 +10,15 @@ import java.util.Optional;
 
 public class ProgrammingLanguageFactory {
 
+    private static final ExtensionPointName<ProgrammingLanguageBean> EP_NAME = ExtensionPointName.create("com.testspector.programmingLanguage");
 
     public Optional<ProgrammingLanguage> getProgrammingLanguage(PsiElement psiElement) {
         if (psiElement != null) {
             Language language = psiElement.getContainingFile().getLanguage();
-            if (language instanceof JavaLanguage) {
-                return Optional.of(ProgrammingLanguage.JAVA);
+            for (ProgrammingLanguageBean programmingLanguageBean : EP_NAME.getExtensionList()) {
+                if (programmingLanguageBean.isLanguageOf(language)) {
+                    return Optional.of(programmingLanguageBean.getProgrammingLanguage());
+                }
             }
         }
         return Optional.empty();
@@ -1,19 +1,19 @@
 package com.testspector.model.checking.factory;
 
-import com.testspector.model.checking.java.common.JavaContextIndicator;
-import com.testspector.model.checking.java.junit.JUnitUnitTestFrameworkFactory;
+import com.intellij.openapi.extensions.ExtensionPointName;
 import com.testspector.model.enums.ProgrammingLanguage;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class UnitTestFrameworkFactoryProvider {
 
+    private static final ExtensionPointName<UnitTestFrameworkFactory> EP_NAME = ExtensionPointName.create("com.testspector.unitTestFrameworkFactory");
+
     public List<UnitTestFrameworkFactory> geUnitTestFrameworkFactory(ProgrammingLanguage programmingLanguage) {
-        List<UnitTestFrameworkFactory> factories = new ArrayList<>();
-        if (programmingLanguage == ProgrammingLanguage.JAVA) {
-            factories.add(new JUnitUnitTestFrameworkFactory(new JavaContextIndicator()));
-        }
-        return factories;
+        return EP_NAME.getExtensionList()
+                .stream()
+                .filter(unitTestFrameworkFactory -> unitTestFrameworkFactory.getProgrammingLanguage() == programmingLanguage)
+                .collect(Collectors.toList());
     }
 }
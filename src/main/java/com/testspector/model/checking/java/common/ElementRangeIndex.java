@@ -0,0 +1,72 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+
+import java.util.*;
+
+public final class ElementRangeIndex {
+
+    private final Map<PsiFile, SortedRanges> rangesByFile;
+
+    private ElementRangeIndex(Map<PsiFile, SortedRanges> rangesByFile) {
+        this.rangesByFile = rangesByFile;
+    }
+
+    public static ElementRangeIndex of(Collection<? extends PsiElement> containers) {
+        Map<PsiFile, List<TextRange>> containerRangesByFile = new HashMap<>();
+        for (PsiElement container : containers) {
+            PsiFile file = container.getContainingFile();
+            TextRange range = container.getTextRange();
+            if (file != null && range != null) {
+                containerRangesByFile.computeIfAbsent(file, key -> new ArrayList<>()).add(range);
+            }
+        }
+        Map<PsiFile, SortedRanges> rangesByFile = new HashMap<>();
+        containerRangesByFile.forEach((file, ranges) -> rangesByFile.put(file, new SortedRanges(ranges)));
+        return new ElementRangeIndex(rangesByFile);
+    }
+
+    public boolean isEmpty() {
+        return rangesByFile.isEmpty();
+    }
+
+    public boolean isNestedInAny(PsiElement element) {
+        SortedRanges ranges = rangesByFile.get(element.getContainingFile());
+        TextRange range = element.getTextRange();
+        return ranges != null && range != null && ranges.containsStrictly(range);
+    }
+
+    private static final class SortedRanges {
+
+        private final int[] startOffsets;
+        private final int[] maxEndOffsets;
+
+        private SortedRanges(List<TextRange> ranges) {
+            ranges.sort(Comparator.comparingInt(TextRange::getStartOffset));
+            startOffsets = new int[ranges.size()];
+            maxEndOffsets = new int[ranges.size()];
+            int maxEndOffset = Integer.MIN_VALUE;
+            for (int i = 0; i < ranges.size(); i++) {
+                startOffsets[i] = ranges.get(i).getStartOffset();
+                maxEndOffset = Math.max(maxEndOffset, ranges.get(i).getEndOffset());
+                maxEndOffsets[i] = maxEndOffset;
+            }
+        }
+
+        private boolean containsStrictly(TextRange range) {
+            int low = 0;
+            int high = startOffsets.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (startOffsets[middle] < range.getStartOffset()) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low > 0 && maxEndOffsets[low - 1] >= range.getEndOffset();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.testspector.model.checking.java.common;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
 
 import java.util.Optional;
 
@@ -18,14 +19,7 @@ public final class ElementUtils {
     }
 
     public static boolean containsElement(PsiElement root, PsiElement toFind) {
-        for (PsiElement child : root.getChildren()) {
-            if (child == toFind) {
-                return true;
-            } else {
-                return containsElement(child, toFind);
-            }
-        }
-        return false;
+        return PsiTreeUtil.isAncestor(root, toFind, true);
     }
 
 }
@@ -0,0 +1,84 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ExceptionTypeHierarchy {
+
+    private static final Key<CachedValue<Map<Pair<PsiClass, PsiClass>, Boolean>>> EXCEPTION_ASSIGNABILITY_KEY = Key.create("testspector.exceptionAssignability");
+    private static final Key<CachedValue<List<PsiClassType>>> THROWN_TYPES_KEY = Key.create("testspector.thrownTypes");
+
+    private ExceptionTypeHierarchy() {
+    }
+
+    public static List<PsiClassType> getThrownTypes(PsiMethod method) {
+        return CachedValuesManager.getCachedValue(method, THROWN_TYPES_KEY, () -> CachedValueProvider.Result.create(
+                Collections.unmodifiableList(Arrays.asList(method.getThrowsList().getReferencedTypes())),
+                PsiModificationTracker.MODIFICATION_COUNT
+        ));
+    }
+
+    public static boolean throwsSupertypeOfAnyOf(PsiMethod method, List<PsiType> caughtTypes) {
+        return throwsAnyOf(method, caughtTypes, false);
+    }
+
+    public static boolean throwsSubtypeOfAnyOf(PsiMethod method, List<PsiType> caughtTypes) {
+        return throwsAnyOf(method, caughtTypes, true);
+    }
+
+    private static boolean throwsAnyOf(PsiMethod method, List<PsiType> caughtTypes, boolean caughtTypeIsSupertype) {
+        List<PsiClassType> thrownTypes = getThrownTypes(method);
+        if (thrownTypes.isEmpty()) {
+            return false;
+        }
+        Project project = method.getProject();
+        for (PsiClassType thrownType : thrownTypes) {
+            for (PsiType caughtType : caughtTypes) {
+                if (caughtType != null && (caughtTypeIsSupertype
+                        ? isAssignable(project, caughtType, thrownType)
+                        : isAssignable(project, thrownType, caughtType))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean isAssignable(Project project, PsiType type, PsiType fromType) {
+        PsiClass typeClass = PsiUtil.resolveClassInClassTypeOnly(type);
+        PsiClass fromTypeClass = PsiUtil.resolveClassInClassTypeOnly(fromType);
+        if (typeClass == null || fromTypeClass == null) {
+            return type.isAssignableFrom(fromType);
+        }
+        Map<Pair<PsiClass, PsiClass>, Boolean> assignability = CachedValuesManager.getManager(project).getCachedValue(project, EXCEPTION_ASSIGNABILITY_KEY, () ->
+                CachedValueProvider.Result.create(
+                        new ConcurrentHashMap<>(),
+                        PsiModificationTracker.getInstance(project).getJavaStructureModificationTracker(),
+                        ProjectRootManager.getInstance(project)
+                ), false);
+        Pair<PsiClass, PsiClass> relation = Pair.of(typeClass, fromTypeClass);
+        Boolean assignable = assignability.get(relation);
+        if (assignable == null) {
+            assignable = type.isAssignableFrom(fromType);
+            assignability.put(relation, assignable);
+        }
+        return assignable;
+    }
+}
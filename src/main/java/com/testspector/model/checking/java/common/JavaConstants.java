@@ -4,17 +4,18 @@ import com.testspector.model.checking.java.junit.JUnitConstants;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 public class JavaConstants {
 
 
-    public static final List<String> ASSERTION_CLASSES_CLASS_PATHS = Collections.unmodifiableList(Arrays.asList(
+    public static final Set<String> ASSERTION_CLASSES_CLASS_PATHS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
             JUnitConstants.JUNIT5_ASSERTIONS_CLASS_PATH,
             JUnitConstants.HAMCREST_ASSERTIONS_CLASS_PATH,
             JUnitConstants.JUNIT4_ASSERTIONS_CLASS_PATH,
             "junit.framework.TestCase",
             "org.assertj.core.api.AssertionsForClassTypes",
-            "org.assertj.core.api.Assertions"
-    ));
+            JUnitConstants.ASSERTJ_ASSERTIONS_CLASS_PATH
+    )));
 }
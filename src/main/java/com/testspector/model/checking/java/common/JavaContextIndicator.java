@@ -1,43 +1,34 @@
 package com.testspector.model.checking.java.common;
 
-import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaFile;
 
-import java.util.Optional;
 import java.util.function.Predicate;
 
 public class JavaContextIndicator {
 
+    private final Predicate<PsiElement> isInTestContext = element -> getFileContext(element) == JavaFileContext.TEST;
+
+    private final Predicate<PsiElement> isInProductionCodeContext = element -> getFileContext(element) == JavaFileContext.PRODUCTION;
+
     public Predicate<PsiElement> isInTestContext() {
-        return element -> getVirtualFileFromElement(element)
-                .map(ProjectRootManager.getInstance(element.getProject()).getFileIndex()::isInTestSourceContent)
-                .orElse(false);
+        return isInTestContext;
     }
 
     public Predicate<PsiElement> isInProductionCodeContext() {
-        return element -> getVirtualFileFromElement(element)
-                .map(virtualFie-> ProjectRootManager
-                        .getInstance(element.getProject())
-                        .getFileIndex().isInSourceContent(virtualFie) &&
-                !ProjectRootManager
-                        .getInstance(element.getProject())
-                        .getFileIndex().isInTestSourceContent(virtualFie)
-                )
-                .orElse(false);
+        return isInProductionCodeContext;
     }
 
-    private Optional<VirtualFile> getVirtualFileFromElement(PsiElement element) {
+    public JavaFileContext getFileContext(PsiElement element) {
         PsiFile file = element.getContainingFile();
-        if (file instanceof PsiJavaFile){
-        PsiJavaFile psiJavaFile = (PsiJavaFile) element.getContainingFile();
-            VirtualFile virtualFile = psiJavaFile.getVirtualFile();
+        if (file instanceof PsiJavaFile) {
+            VirtualFile virtualFile = file.getVirtualFile();
             if (virtualFile != null) {
-                return Optional.of(virtualFile);
+                return element.getProject().getService(JavaFileContextIndex.class).getFileContext(virtualFile);
             }
         }
-        return Optional.empty();
+        return JavaFileContext.OTHER;
     }
 }
@@ -0,0 +1,8 @@
+package com.testspector.model.checking.java.common;
+
+public enum JavaFileContext {
+    TEST,
+    PRODUCTION,
+    LIBRARY,
+    OTHER
+}
@@ -0,0 +1,85 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.ProjectTopics;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.VirtualFileWithId;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.ManagingFS;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.containers.ConcurrentIntObjectMap;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public class JavaFileContextIndex {
+
+    private final Project project;
+
+    private final ConcurrentIntObjectMap<JavaFileContext> contextsByFileId = ContainerUtil.createConcurrentIntObjectMap();
+
+    public JavaFileContextIndex(Project project) {
+        this.project = project;
+        MessageBusConnection connection = project.getMessageBus().connect(project);
+        connection.subscribe(ProjectTopics.PROJECT_ROOTS, new ModuleRootListener() {
+            @Override
+            public void rootsChanged(@NotNull ModuleRootEvent event) {
+                contextsByFileId.clear();
+            }
+        });
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    VirtualFile file = event.getFile();
+                    if (file == null || file.isDirectory()) {
+                        contextsByFileId.clear();
+                        return;
+                    }
+                    if (file instanceof VirtualFileWithId) {
+                        contextsByFileId.remove(((VirtualFileWithId) file).getId());
+                    }
+                }
+            }
+        });
+    }
+
+    public JavaFileContext getFileContext(VirtualFile file) {
+        if (file instanceof VirtualFileWithId) {
+            int fileId = ((VirtualFileWithId) file).getId();
+            JavaFileContext context = contextsByFileId.get(fileId);
+            if (context == null) {
+                context = contextsByFileId.cacheOrGet(fileId, classify(file));
+            }
+            return context;
+        }
+        return classify(file);
+    }
+
+    public JavaFileContext getFileContext(int fileId) {
+        JavaFileContext context = contextsByFileId.get(fileId);
+        if (context != null) {
+            return context;
+        }
+        VirtualFile file = ManagingFS.getInstance().findFileById(fileId);
+        return file != null ? getFileContext(file) : JavaFileContext.OTHER;
+    }
+
+    private JavaFileContext classify(VirtualFile file) {
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        if (fileIndex.isInTestSourceContent(file)) {
+            return JavaFileContext.TEST;
+        } else if (fileIndex.isInSourceContent(file)) {
+            return JavaFileContext.PRODUCTION;
+        } else if (fileIndex.isInLibrary(file)) {
+            return JavaFileContext.LIBRARY;
+        }
+        return JavaFileContext.OTHER;
+    }
+}
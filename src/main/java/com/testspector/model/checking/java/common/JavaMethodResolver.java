@@ -1,8 +1,12 @@
 package com.testspector.model.checking.java.common;
 
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.source.resolve.reference.ReferenceProvidersRegistry;
-import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
@@ -10,6 +14,7 @@ import com.testspector.model.checking.java.common.search.QueriesRepository;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.testspector.model.checking.java.common.JavaConstants.ASSERTION_CLASSES_CLASS_PATHS;
@@ -17,6 +22,17 @@ import static com.testspector.model.checking.java.common.search.ElementSearchRes
 
 public class JavaMethodResolver {
 
+    private static final Key<CachedValue<Boolean>> ASSERTION_METHOD_KEY = Key.create("testspector.assertionMethod");
+    private static final Key<CachedValue<List<PsiReference>>> PRODUCTION_METHOD_REFERENCES_KEY = Key.create("testspector.productionMethodReferences");
+    private static final Map<String, Set<String>> METHOD_NAMING_ANNOTATION_ATTRIBUTES = Map.of(
+            "org.junit.jupiter.params.provider.MethodSource", Set.of("value"),
+            "org.junit.jupiter.api.condition.EnabledIf", Set.of("value"),
+            "org.junit.jupiter.api.condition.DisabledIf", Set.of("value"),
+            "junitparams.Parameters", Set.of("method")
+    );
+    private static final Set<String> METHOD_LOOKUP_NAMES = Set.of("getMethod", "getDeclaredMethod", "findVirtual", "findStatic", "findSpecial");
+    private static final Pattern METHOD_NAME_LITERAL_PATTERN = Pattern.compile("(?:[\\w$.]+#)?[\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*(?:\\([\\w$.,\\s\\[\\]]*\\))?");
+
     private final ElementSearchEngine elementSearchEngine;
     private final JavaContextIndicator contextResolver;
 
@@ -44,15 +60,51 @@ public class JavaMethodResolver {
                 literalExpression -> elementSearchEngine.findByQuery(literalExpression, QueriesRepository.FIND_ALL_LITERAL_EXPRESSIONS)
         );
         Function<PsiLiteralExpression, ElementSearchResult<PsiReference>> mappingFunction = literalExpression ->
-                new ElementSearchResult<>(new ArrayList<>(),
-                        Arrays.stream(ReferenceProvidersRegistry.getReferencesFromProviders(literalExpression))
-                                .filter(reference -> {
-                                    PsiElement resolvedElement = reference.resolve();
-                                    return resolvedElement instanceof PsiMethod && contextResolver.isInProductionCodeContext().test(resolvedElement);
-                                }).collect(Collectors.toList()));
+                new ElementSearchResult<>(new ArrayList<>(), getProductionMethodReferences(literalExpression));
         return mapResult(literalExpressionElementSearchResult, mappingFunction);
     }
 
+    private List<PsiReference> getProductionMethodReferences(PsiLiteralExpression literalExpression) {
+        if (!canNameMethod(literalExpression)) {
+            return Collections.emptyList();
+        }
+        return CachedValuesManager.getCachedValue(literalExpression, PRODUCTION_METHOD_REFERENCES_KEY, () -> CachedValueProvider.Result.create(
+                Arrays.stream(ReferenceProvidersRegistry.getReferencesFromProviders(literalExpression))
+                        .filter(reference -> {
+                            PsiElement resolvedElement = reference.resolve();
+                            return resolvedElement instanceof PsiMethod && contextResolver.isInProductionCodeContext().test(resolvedElement);
+                        }).collect(Collectors.toUnmodifiableList()),
+                PsiModificationTracker.MODIFICATION_COUNT
+        ));
+    }
+
+    boolean canNameMethod(PsiLiteralExpression literalExpression) {
+        Object value = literalExpression.getValue();
+        return value instanceof String && isInMethodNamePosition(literalExpression) &&
+                METHOD_NAME_LITERAL_PATTERN.matcher((String) value).matches();
+    }
+
+    private boolean isInMethodNamePosition(PsiLiteralExpression literalExpression) {
+        PsiElement parent = literalExpression.getParent();
+        while (parent instanceof PsiArrayInitializerMemberValue) {
+            parent = parent.getParent();
+        }
+        if (parent instanceof PsiNameValuePair) {
+            return isMethodNamingAttribute((PsiNameValuePair) parent);
+        }
+        return parent instanceof PsiExpressionList &&
+                parent.getParent() instanceof PsiMethodCallExpression &&
+                METHOD_LOOKUP_NAMES.contains(((PsiMethodCallExpression) parent.getParent()).getMethodExpression().getReferenceName());
+    }
+
+    private boolean isMethodNamingAttribute(PsiNameValuePair nameValuePair) {
+        PsiAnnotation annotation = PsiTreeUtil.getParentOfType(nameValuePair, PsiAnnotation.class);
+        String attributeName = Optional.ofNullable(nameValuePair.getName()).orElse(PsiAnnotation.DEFAULT_REFERENCED_METHOD_NAME);
+        return annotation != null && METHOD_NAMING_ANNOTATION_ATTRIBUTES
+                .getOrDefault(annotation.getQualifiedName(), Collections.emptySet())
+                .contains(attributeName);
+    }
+
     public List<PsiMethod> getMethodsWithAnnotations(List<PsiElement> fromElements, List<String> annotationQualifiedNames) {
         return getMethodsWithAnnotations(new HashSet<>(), fromElements, annotationQualifiedNames);
     }
@@ -75,11 +127,10 @@ public class JavaMethodResolver {
                     psiMethods.add((PsiMethod) psiElement);
                 } else if (!visited.contains(method)) {
                     visited.add(method);
-                    psiMethods.addAll(ReferencesSearch.search(method)
-                            .findAll()
+                    psiMethods.addAll(method.getProject().getService(TestEntryPointIndex.class)
+                            .getCallingMethods(method)
                             .stream()
-                            .map(reference -> PsiTreeUtil.getParentOfType(reference.getElement(), PsiMethod.class))
-                            .filter(met -> met != null && met != method && contextResolver.isInTestContext().test(met))
+                            .filter(met -> contextResolver.isInTestContext().test(met))
                             .map(met -> getMethodsWithAnnotations(visited, Collections.singletonList(met), annotationQualifiedNames))
                             .flatMap(Collection::stream)
                             .collect(Collectors.toList()));
@@ -91,7 +142,7 @@ public class JavaMethodResolver {
     }
 
     public Optional<PsiMethod> tryToGetAssertionMethod(PsiMethodCallExpression psiMethodCallExpression) {
-        PsiMethod assertionMethodCandidate = psiMethodCallExpression.resolveMethod();
+        PsiMethod assertionMethodCandidate = ResolutionCache.resolveMethod(psiMethodCallExpression);
         if (assertionMethodCandidate != null) {
             return tryToGetAssertionMethod(assertionMethodCandidate);
         }
@@ -99,15 +150,24 @@ public class JavaMethodResolver {
     }
 
     public Optional<PsiMethod> tryToGetAssertionMethod(PsiMethod method) {
-        if (isAssertionMethodFromLibrary(method) || isCustomAssertionMethod(method)) {
+        if (isAssertionMethod(method)) {
             return Optional.of(method);
         }
         return Optional.empty();
     }
 
+    private boolean isAssertionMethod(PsiMethod method) {
+        return CachedValuesManager.getCachedValue(method, ASSERTION_METHOD_KEY, () -> CachedValueProvider.Result.create(
+                isAssertionMethodFromLibrary(method) || isCustomAssertionMethod(method),
+                PsiModificationTracker.MODIFICATION_COUNT,
+                LibraryAssertionCatalog.getInstance().getModificationTracker()
+        ));
+    }
+
     private boolean isAssertionMethodFromLibrary(PsiMethod method) {
-        return method.getContainingClass() != null &&
-                ASSERTION_CLASSES_CLASS_PATHS.contains(method.getContainingClass().getQualifiedName());
+        PsiClass containingClass = method.getContainingClass();
+        return containingClass != null && (ASSERTION_CLASSES_CLASS_PATHS.contains(containingClass.getQualifiedName())
+                || LibraryAssertionCatalog.getInstance().isAssertionMethod(method));
     }
 
     private boolean isCustomAssertionMethod(PsiMethod method) {
@@ -126,7 +186,7 @@ public class JavaMethodResolver {
                 PsiReturnStatement returnStatement = (PsiReturnStatement) returnCandidate.get();
                 PsiExpression returnValueExpression = returnStatement.getReturnValue();
                 if (returnValueExpression instanceof PsiReferenceExpression) {
-                    return Optional.ofNullable(((PsiReferenceExpression) returnValueExpression).resolve())
+                    return Optional.ofNullable(ResolutionCache.resolve((PsiReferenceExpression) returnValueExpression))
                             .filter(element -> element instanceof PsiField)
                             .isPresent();
                 }
@@ -0,0 +1,75 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.lang.java.lexer.JavaLexer;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.impl.source.tree.ElementType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.containers.IntArrayList;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JavaTokenSummary {
+
+    private static final Key<CachedValue<JavaTokenSummary>> TOKEN_SUMMARY_KEY = Key.create("testspector.javaTokenSummary");
+
+    private final Map<IElementType, int[]> offsetsByKeyword;
+
+    private JavaTokenSummary(Map<IElementType, int[]> offsetsByKeyword) {
+        this.offsetsByKeyword = offsetsByKeyword;
+    }
+
+    public static JavaTokenSummary getInstance(PsiJavaFile file) {
+        return CachedValuesManager.getCachedValue(file, TOKEN_SUMMARY_KEY, () ->
+                CachedValueProvider.Result.create(createSummary(file), file));
+    }
+
+    public static boolean containsAnyOf(PsiElement element, TokenSet tokens) {
+        PsiFile file = element.getContainingFile();
+        if (!(file instanceof PsiJavaFile) || element.getTextRange() == null) {
+            return true;
+        }
+        return getInstance((PsiJavaFile) file).containsAnyOf(tokens, element.getTextRange());
+    }
+
+    private static JavaTokenSummary createSummary(PsiJavaFile file) {
+        Map<IElementType, IntArrayList> offsets = new HashMap<>();
+        JavaLexer lexer = new JavaLexer(file.getLanguageLevel());
+        lexer.start(file.getViewProvider().getContents());
+        for (IElementType tokenType = lexer.getTokenType(); tokenType != null; lexer.advance(), tokenType = lexer.getTokenType()) {
+            if (ElementType.KEYWORD_BIT_SET.contains(tokenType)) {
+                offsets.computeIfAbsent(tokenType, type -> new IntArrayList()).add(lexer.getTokenStart());
+            }
+        }
+        Map<IElementType, int[]> offsetsByKeyword = new HashMap<>();
+        offsets.forEach((tokenType, tokenOffsets) -> offsetsByKeyword.put(tokenType, tokenOffsets.toArray()));
+        return new JavaTokenSummary(offsetsByKeyword);
+    }
+
+    public boolean containsAnyOf(TokenSet tokens) {
+        return Arrays.stream(tokens.getTypes()).anyMatch(offsetsByKeyword::containsKey);
+    }
+
+    public boolean containsAnyOf(TokenSet tokens, TextRange range) {
+        for (IElementType tokenType : tokens.getTypes()) {
+            int[] offsets = offsetsByKeyword.get(tokenType);
+            if (offsets != null) {
+                int index = Arrays.binarySearch(offsets, range.getStartOffset());
+                int insertionPoint = index >= 0 ? index : -index - 1;
+                if (insertionPoint < offsets.length && offsets[insertionPoint] < range.getEndOffset()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,357 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.roots.DependencyScope;
+import com.intellij.openapi.roots.LibraryOrderEntry;
+import com.intellij.openapi.roots.OrderEntry;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.ClassUtil;
+import com.intellij.psi.util.PsiUtilCore;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.org.objectweb.asm.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+public class LibraryAssertionCatalog {
+
+    private static final Logger LOG = Logger.getInstance(LibraryAssertionCatalog.class);
+
+    private static final String CATALOG_HEADER = "testspector-assertion-catalog-v2";
+
+    private static final String JAVA_ASSERTION_ERROR = "java/lang/AssertionError";
+    private static final String ASSERTIONS_DISABLED_FIELD = "$assertionsDisabled";
+
+    private static final Set<String> ASSERTION_ANNOTATION_NAMES = Set.of("Assertion", "AssertionMethod");
+
+    private static final Set<String> ASSERTION_ERROR_TYPES = Set.of(
+            JAVA_ASSERTION_ERROR,
+            "junit/framework/AssertionFailedError",
+            "junit/framework/ComparisonFailure",
+            "org/junit/ComparisonFailure",
+            "org/opentest4j/AssertionFailedError",
+            "org/opentest4j/MultipleFailuresError"
+    );
+
+    private final Path storageDirectory;
+    private final Executor buildExecutor;
+    private final Map<String, Set<String>> catalogsByJar = new ConcurrentHashMap<>();
+    private final Set<String> pendingBuilds = ConcurrentHashMap.newKeySet();
+    private final Queue<VirtualFile> changedJarRoots = new ConcurrentLinkedQueue<>();
+    private final SimpleModificationTracker modificationTracker = new SimpleModificationTracker();
+
+    public LibraryAssertionCatalog() {
+        this(Paths.get(PathManager.getSystemPath(), "testspector", "assertions"), AppExecutorUtil.getAppExecutorService());
+    }
+
+    LibraryAssertionCatalog(Path storageDirectory, Executor buildExecutor) {
+        this.storageDirectory = storageDirectory;
+        this.buildExecutor = buildExecutor;
+    }
+
+    public static LibraryAssertionCatalog getInstance() {
+        return ApplicationManager.getApplication().getService(LibraryAssertionCatalog.class);
+    }
+
+    public ModificationTracker getModificationTracker() {
+        return modificationTracker;
+    }
+
+    public boolean isAssertionMethod(PsiMethod method) {
+        if (!(method instanceof PsiCompiledElement) || method.isConstructor()) {
+            return false;
+        }
+        PsiClass containingClass = method.getContainingClass();
+        VirtualFile classFile = PsiUtilCore.getVirtualFile(method);
+        if (containingClass == null || classFile == null || !isInTestLibrary(method.getProject(), classFile)) {
+            return false;
+        }
+        JarFileSystem jarFileSystem = JarFileSystem.getInstance();
+        VirtualFile jarRoot = jarFileSystem.getRootByEntry(classFile);
+        VirtualFile jarFile = jarFileSystem.getVirtualFileForJar(classFile);
+        String className = ClassUtil.getJVMClassName(containingClass);
+        return jarRoot != null && jarFile != null && className != null
+                && getCatalog(jarRoot, jarFile).contains(className + '#' + method.getName());
+    }
+
+    Set<String> getCatalog(VirtualFile jarRoot, VirtualFile jarFile) {
+        String jarKey = jarFile.getPath() + '|' + jarFile.getLength() + '|' + jarFile.getTimeStamp();
+        Set<String> catalog = catalogsByJar.get(jarKey);
+        if (catalog == null) {
+            Path storedCatalog = storageDirectory.resolve(jarFile.getNameWithoutExtension() + '-' + Integer.toHexString(jarKey.hashCode()) + ".txt");
+            Optional<Set<String>> loadedCatalog = loadCatalog(storedCatalog, jarKey);
+            if (loadedCatalog.isPresent()) {
+                catalogsByJar.putIfAbsent(jarKey, loadedCatalog.get());
+            } else if (pendingBuilds.add(jarKey)) {
+                buildExecutor.execute(() -> buildAndStoreCatalog(jarRoot, jarKey, storedCatalog));
+            }
+            catalog = catalogsByJar.getOrDefault(jarKey, Collections.emptySet());
+        }
+        return catalog;
+    }
+
+    private void buildAndStoreCatalog(VirtualFile jarRoot, String jarKey, Path storedCatalog) {
+        try {
+            Set<String> builtCatalog = buildCatalog(jarRoot);
+            storeCatalog(storedCatalog, jarKey, builtCatalog);
+            catalogsByJar.putIfAbsent(jarKey, builtCatalog);
+            if (!builtCatalog.isEmpty()) {
+                changedJarRoots.add(jarRoot);
+            }
+        } finally {
+            pendingBuilds.remove(jarKey);
+        }
+        if (pendingBuilds.isEmpty()) {
+            refreshProjectsUsingChangedJars();
+        }
+    }
+
+    private void refreshProjectsUsingChangedJars() {
+        List<VirtualFile> jarRoots = new ArrayList<>();
+        for (VirtualFile jarRoot = changedJarRoots.poll(); jarRoot != null; jarRoot = changedJarRoots.poll()) {
+            jarRoots.add(jarRoot);
+        }
+        if (jarRoots.isEmpty()) {
+            return;
+        }
+        modificationTracker.incModificationCount();
+        Application application = ApplicationManager.getApplication();
+        if (application == null) {
+            return;
+        }
+        application.invokeLater(() -> {
+            for (Project project : ProjectManager.getInstance().getOpenProjects()) {
+                if (!project.isDisposed() && jarRoots.stream().anyMatch(ProjectFileIndex.getInstance(project)::isInLibrary)) {
+                    DaemonCodeAnalyzer.getInstance(project).restart();
+                }
+            }
+        });
+    }
+
+    private boolean isInTestLibrary(Project project, VirtualFile file) {
+        List<OrderEntry> orderEntries = ProjectFileIndex.getInstance(project).getOrderEntriesForFile(file);
+        return !orderEntries.isEmpty() && orderEntries.stream()
+                .allMatch(orderEntry -> orderEntry instanceof LibraryOrderEntry
+                        && ((LibraryOrderEntry) orderEntry).getScope() == DependencyScope.TEST);
+    }
+
+    private Optional<Set<String>> loadCatalog(Path storedCatalog, String jarKey) {
+        if (!Files.isRegularFile(storedCatalog)) {
+            return Optional.empty();
+        }
+        try {
+            List<String> lines = Files.readAllLines(storedCatalog, StandardCharsets.UTF_8);
+            if (lines.size() < 2 || !CATALOG_HEADER.equals(lines.get(0)) || !jarKey.equals(lines.get(1))) {
+                return Optional.empty();
+            }
+            return Optional.of(Collections.unmodifiableSet(new HashSet<>(lines.subList(2, lines.size()))));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    void storeCatalog(Path storedCatalog, String jarKey, Set<String> catalog) {
+        List<String> lines = new ArrayList<>(catalog.size() + 2);
+        lines.add(CATALOG_HEADER);
+        lines.add(jarKey);
+        lines.addAll(catalog);
+        try {
+            Files.createDirectories(storageDirectory);
+            Path temporaryFile = Files.createTempFile(storageDirectory, storedCatalog.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+                Files.move(temporaryFile, storedCatalog, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not store assertion catalog " + storedCatalog, e);
+        }
+    }
+
+    private Set<String> buildCatalog(VirtualFile jarRoot) {
+        JarClassesScan scan = new JarClassesScan();
+        VfsUtilCore.visitChildrenRecursively(jarRoot, new VirtualFileVisitor<Void>() {
+            @Override
+            public boolean visitFile(@NotNull VirtualFile file) {
+                ProgressManager.checkCanceled();
+                if (!file.isDirectory() && "class".equals(file.getExtension())) {
+                    try {
+                        scan.scanClass(file.contentsToByteArray());
+                    } catch (IOException | RuntimeException e) {
+                        LOG.debug("Could not scan class " + file.getPath(), e);
+                    }
+                }
+                return true;
+            }
+        });
+        Set<String> catalog = new HashSet<>();
+        for (String assertionMethod : scan.findAssertionMethods()) {
+            catalog.add(assertionMethod.replace('/', '.'));
+        }
+        return Collections.unmodifiableSet(catalog);
+    }
+
+    private static class JarClassesScan {
+
+        private final Map<String, String> superNames = new HashMap<>();
+        private final Map<String, Set<String>> declaredMethodNames = new HashMap<>();
+        private final Map<String, Set<String>> thrownTypes = new HashMap<>();
+        private final Map<String, Set<String>> createdTypes = new HashMap<>();
+        private final Map<String, Set<String>> calledMethods = new HashMap<>();
+        private final Set<String> annotatedMethods = new HashSet<>();
+        private final Set<String> apiMethods = new HashSet<>();
+
+        private void scanClass(byte[] classBytes) {
+            new ClassReader(classBytes).accept(new ClassVisitor(Opcodes.ASM7) {
+
+                private String className;
+                private boolean publicClass;
+
+                @Override
+                public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+                    className = name;
+                    publicClass = (access & Opcodes.ACC_PUBLIC) != 0;
+                    if (superName != null) {
+                        superNames.put(name, superName);
+                    }
+                }
+
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                    if (name.startsWith("<") || (access & (Opcodes.ACC_SYNTHETIC | Opcodes.ACC_BRIDGE)) != 0) {
+                        return null;
+                    }
+                    String methodKey = className + '#' + name;
+                    declaredMethodNames.computeIfAbsent(className, key -> new HashSet<>()).add(name);
+                    if (publicClass && (access & (Opcodes.ACC_PUBLIC | Opcodes.ACC_PROTECTED)) != 0) {
+                        apiMethods.add(methodKey);
+                    }
+                    if (exceptions != null) {
+                        thrownTypes.computeIfAbsent(methodKey, key -> new HashSet<>()).addAll(Arrays.asList(exceptions));
+                    }
+                    return new MethodVisitor(Opcodes.ASM7) {
+
+                        private boolean assertionsDisabledChecked;
+
+                        @Override
+                        public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+                            if (isAssertionAnnotation(annotationDescriptor)) {
+                                annotatedMethods.add(methodKey);
+                            }
+                            return null;
+                        }
+
+                        @Override
+                        public void visitFieldInsn(int opcode, String owner, String fieldName, String fieldDescriptor) {
+                            if (opcode == Opcodes.GETSTATIC && ASSERTIONS_DISABLED_FIELD.equals(fieldName)) {
+                                assertionsDisabledChecked = true;
+                            }
+                        }
+
+                        @Override
+                        public void visitTypeInsn(int opcode, String type) {
+                            if (opcode != Opcodes.NEW) {
+                                return;
+                            }
+                            if (assertionsDisabledChecked && JAVA_ASSERTION_ERROR.equals(type)) {
+                                assertionsDisabledChecked = false;
+                            } else {
+                                createdTypes.computeIfAbsent(methodKey, key -> new HashSet<>()).add(type);
+                            }
+                        }
+
+                        @Override
+                        public void visitMethodInsn(int opcode, String owner, String calledName, String calledDescriptor, boolean isInterface) {
+                            calledMethods.computeIfAbsent(methodKey, key -> new HashSet<>()).add(owner + '#' + calledName);
+                        }
+                    };
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        }
+
+        private Set<String> findAssertionMethods() {
+            Set<String> assertionMethods = new HashSet<>(annotatedMethods);
+            thrownTypes.forEach((method, types) -> {
+                if (types.stream().anyMatch(this::isAssertionErrorType)) {
+                    assertionMethods.add(method);
+                }
+            });
+            createdTypes.forEach((method, types) -> {
+                if (types.stream().anyMatch(this::isAssertionErrorType)) {
+                    assertionMethods.add(method);
+                }
+            });
+
+            Map<String, Set<String>> callers = new HashMap<>();
+            calledMethods.forEach((caller, callees) -> callees.stream()
+                    .map(this::resolveDeclaration)
+                    .filter(Objects::nonNull)
+                    .forEach(callee -> callers.computeIfAbsent(callee, key -> new HashSet<>()).add(caller)));
+
+            Deque<String> pending = new ArrayDeque<>(assertionMethods);
+            while (!pending.isEmpty()) {
+                for (String caller : callers.getOrDefault(pending.pop(), Collections.emptySet())) {
+                    if (assertionMethods.add(caller)) {
+                        pending.push(caller);
+                    }
+                }
+            }
+            assertionMethods.retainAll(apiMethods);
+            return assertionMethods;
+        }
+
+        private String resolveDeclaration(String calledMethod) {
+            int separator = calledMethod.indexOf('#');
+            String methodName = calledMethod.substring(separator + 1);
+            Set<String> visited = new HashSet<>();
+            for (String owner = calledMethod.substring(0, separator); owner != null && visited.add(owner); owner = superNames.get(owner)) {
+                if (declaredMethodNames.getOrDefault(owner, Collections.emptySet()).contains(methodName)) {
+                    return owner + '#' + methodName;
+                }
+            }
+            return null;
+        }
+
+        private boolean isAssertionErrorType(String type) {
+            Set<String> visited = new HashSet<>();
+            for (String current = type; current != null && visited.add(current); current = superNames.get(current)) {
+                if (ASSERTION_ERROR_TYPES.contains(current)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isAssertionAnnotation(String annotationDescriptor) {
+            String annotationName = Type.getType(annotationDescriptor).getClassName();
+            String simpleName = annotationName.substring(annotationName.lastIndexOf('.') + 1);
+            return ASSERTION_ANNOTATION_NAMES.contains(simpleName.substring(simpleName.lastIndexOf('$') + 1));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+public final class MutableStaticFields {
+
+    private static final Key<CachedValue<Set<PsiField>>> VISIBLE_MUTABLE_STATIC_FIELDS_KEY = Key.create("testspector.visibleMutableStaticFields");
+    private static final Key<CachedValue<Pair<Set<PsiField>, Set<PsiClass>>>> CLASS_MUTABLE_STATIC_FIELDS_KEY = Key.create("testspector.classMutableStaticFields");
+
+    private MutableStaticFields() {
+    }
+
+    public static Set<PsiField> getVisibleMutableStaticFields(PsiClass testClass, Predicate<PsiElement> isInTestContext) {
+        return CachedValuesManager.getCachedValue(testClass, VISIBLE_MUTABLE_STATIC_FIELDS_KEY, () -> CachedValueProvider.Result.create(
+                Collections.unmodifiableSet(collectVisibleMutableStaticFields(testClass, isInTestContext)),
+                PsiModificationTracker.MODIFICATION_COUNT
+        ));
+    }
+
+    public static boolean isMutableStaticField(PsiField field) {
+        PsiModifierList modifierList = field.getModifierList();
+        return !(field instanceof PsiEnumConstant) && modifierList != null &&
+                modifierList.hasModifierProperty(PsiModifier.STATIC) &&
+                !modifierList.hasExplicitModifier(PsiModifier.FINAL);
+    }
+
+    private static Set<PsiField> collectVisibleMutableStaticFields(PsiClass testClass, Predicate<PsiElement> isInTestContext) {
+        Set<PsiField> visibleFields = new HashSet<>();
+        Set<PsiClass> visitedClasses = new HashSet<>();
+        Deque<PsiClass> classes = new ArrayDeque<>();
+        classes.push(testClass);
+        visitedClasses.add(testClass);
+        while (!classes.isEmpty()) {
+            ProgressManager.checkCanceled();
+            Pair<Set<PsiField>, Set<PsiClass>> classFields = getClassMutableStaticFields(classes.pop(), isInTestContext);
+            visibleFields.addAll(classFields.getLeft());
+            for (PsiClass referencedClass : classFields.getRight()) {
+                if (visitedClasses.add(referencedClass)) {
+                    classes.push(referencedClass);
+                }
+            }
+        }
+        return visibleFields;
+    }
+
+    private static Pair<Set<PsiField>, Set<PsiClass>> getClassMutableStaticFields(PsiClass psiClass, Predicate<PsiElement> isInTestContext) {
+        return CachedValuesManager.getCachedValue(psiClass, CLASS_MUTABLE_STATIC_FIELDS_KEY, () -> CachedValueProvider.Result.create(
+                collectClassMutableStaticFields(psiClass, isInTestContext),
+                PsiModificationTracker.MODIFICATION_COUNT
+        ));
+    }
+
+    private static Pair<Set<PsiField>, Set<PsiClass>> collectClassMutableStaticFields(PsiClass psiClass, Predicate<PsiElement> isInTestContext) {
+        Set<PsiField> fields = new HashSet<>();
+        Set<PsiClass> referencedClasses = new HashSet<>();
+        Arrays.stream(psiClass.getAllFields())
+                .filter(MutableStaticFields::isMutableStaticField)
+                .forEach(fields::add);
+        if (!(psiClass instanceof PsiCompiledElement)) {
+            psiClass.accept(new JavaRecursiveElementWalkingVisitor() {
+                @Override
+                public void visitField(PsiField field) {
+                    super.visitField(field);
+                    if (isMutableStaticField(field)) {
+                        fields.add(field);
+                    }
+                }
+
+                @Override
+                public void visitReferenceExpression(PsiReferenceExpression expression) {
+                    super.visitReferenceExpression(expression);
+                    PsiElement referencedElement = ResolutionCache.resolve(expression);
+                    if ((referencedElement instanceof PsiMethod || referencedElement instanceof PsiField) &&
+                            isInTestContext.test(referencedElement)) {
+                        PsiClass containingClass = ((PsiMember) referencedElement).getContainingClass();
+                        if (containingClass != null && !PsiTreeUtil.isAncestor(psiClass, containingClass, false)) {
+                            referencedClasses.add(containingClass);
+                        }
+                        if (referencedElement instanceof PsiField && isMutableStaticField((PsiField) referencedElement)) {
+                            fields.add((PsiField) referencedElement);
+                        }
+                    }
+                }
+            });
+        }
+        return Pair.of(fields, referencedClasses);
+    }
+}
@@ -0,0 +1,86 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+
+public final class NameSimilarity {
+
+    private static final Key<CachedValue<char[]>> NORMALIZED_NAME_KEY = Key.create("testspector.normalizedName");
+
+    private static final ThreadLocal<int[][]> DISTANCE_ROWS = ThreadLocal.withInitial(() -> new int[2][64]);
+
+    private NameSimilarity() {
+    }
+
+    public static boolean isRatioAbove(PsiMethod first, PsiMethod second, int minRatio) {
+        return isRatioAbove(getNormalizedName(first), getNormalizedName(second), minRatio);
+    }
+
+    public static char[] getNormalizedName(PsiMethod method) {
+        return CachedValuesManager.getCachedValue(method, NORMALIZED_NAME_KEY, () -> CachedValueProvider.Result.create(
+                method.getName().toLowerCase().toCharArray(),
+                PsiModificationTracker.MODIFICATION_COUNT
+        ));
+    }
+
+    static boolean isRatioAbove(char[] first, char[] second, int minRatio) {
+        int maxDistance = maxDistanceAbove(first.length + second.length, minRatio);
+        return maxDistance >= 0 && boundedDistance(first, second, maxDistance) <= maxDistance;
+    }
+
+    static int ratio(char[] first, char[] second) {
+        int lengthSum = first.length + second.length;
+        return ratio(lengthSum, boundedDistance(first, second, lengthSum));
+    }
+
+    private static int ratio(int lengthSum, int distance) {
+        return (int) Math.round(100 * ((lengthSum - distance) / (double) lengthSum));
+    }
+
+    private static int maxDistanceAbove(int lengthSum, int minRatio) {
+        int distance = -1;
+        while (distance < lengthSum && ratio(lengthSum, distance + 1) > minRatio) {
+            distance++;
+        }
+        return distance;
+    }
+
+    private static int boundedDistance(char[] first, char[] second, int maxDistance) {
+        if (Math.abs(first.length - second.length) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[][] rows = DISTANCE_ROWS.get();
+        if (rows[0].length <= second.length) {
+            rows = new int[2][Math.max(second.length + 1, rows[0].length * 2)];
+            DISTANCE_ROWS.set(rows);
+        }
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        for (int j = 0; j <= second.length; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length; i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length; j++) {
+                if (first[i - 1] == second[j - 1]) {
+                    current[j] = previous[j - 1];
+                } else {
+                    current[j] = 1 + Math.min(previous[j], current[j - 1]);
+                }
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length];
+    }
+}
@@ -0,0 +1,72 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResolutionCache {
+
+    private static final Key<CachedValue<ResolutionCache>> RESOLUTION_CACHE_KEY = Key.create("testspector.resolutionCache");
+
+    private final Map<PsiReference, Optional<PsiElement>> resolvedReferences = new ConcurrentHashMap<>();
+    private final Map<PsiMethodCallExpression, Optional<PsiMethod>> resolvedMethods = new ConcurrentHashMap<>();
+    private final AtomicInteger resolveCount = new AtomicInteger();
+    private final AtomicInteger savedResolveCount = new AtomicInteger();
+
+    public static ResolutionCache getInstance(PsiElement element) {
+        PsiFile file = element.getContainingFile();
+        if (file == null) {
+            return new ResolutionCache();
+        }
+        return CachedValuesManager.getCachedValue(file, RESOLUTION_CACHE_KEY, () ->
+                CachedValueProvider.Result.create(new ResolutionCache(), PsiModificationTracker.MODIFICATION_COUNT));
+    }
+
+    public static PsiElement resolve(PsiReference reference) {
+        return getInstance(reference.getElement()).resolveReference(reference);
+    }
+
+    public static PsiMethod resolveMethod(PsiMethodCallExpression methodCallExpression) {
+        return getInstance(methodCallExpression).resolveMethodCall(methodCallExpression);
+    }
+
+    public int getResolveCount() {
+        return resolveCount.get();
+    }
+
+    public int getSavedResolveCount() {
+        return savedResolveCount.get();
+    }
+
+    private PsiElement resolveReference(PsiReference reference) {
+        Optional<PsiElement> resolvedElement = resolvedReferences.get(reference);
+        if (resolvedElement != null) {
+            savedResolveCount.incrementAndGet();
+            return resolvedElement.orElse(null);
+        }
+        resolveCount.incrementAndGet();
+        resolvedElement = Optional.ofNullable(reference.resolve());
+        resolvedReferences.putIfAbsent(reference, resolvedElement);
+        return resolvedElement.orElse(null);
+    }
+
+    private PsiMethod resolveMethodCall(PsiMethodCallExpression methodCallExpression) {
+        Optional<PsiMethod> resolvedMethod = resolvedMethods.get(methodCallExpression);
+        if (resolvedMethod != null) {
+            savedResolveCount.incrementAndGet();
+            return resolvedMethod.orElse(null);
+        }
+        resolveCount.incrementAndGet();
+        resolvedMethod = Optional.ofNullable(methodCallExpression.resolveMethod());
+        resolvedMethods.putIfAbsent(methodCallExpression, resolvedMethod);
+        return resolvedMethod.orElse(null);
+    }
+}
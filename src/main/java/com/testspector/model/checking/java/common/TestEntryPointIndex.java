@@ -0,0 +1,121 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.impl.cache.CacheManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.GlobalSearchScopesCore;
+import com.intellij.psi.search.UsageSearchContext;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class TestEntryPointIndex {
+
+    private static final Key<CachedValue<Map<String, Set<PsiMethod>>>> CALLING_METHODS_KEY = Key.create("testspector.callingMethods");
+
+    private final Project project;
+
+    public TestEntryPointIndex(Project project) {
+        this.project = project;
+    }
+
+    public List<PsiMethod> getCallingMethods(PsiMethod method) {
+        String methodKey = getMethodKey(method);
+        if (methodKey == null || !isIndexed(method)) {
+            return searchCallingMethods(method);
+        }
+        Set<PsiMethod> callingMethods = new LinkedHashSet<>();
+        for (VirtualFile file : getCandidateFiles(method)) {
+            PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+            if (psiFile instanceof PsiJavaFile) {
+                callingMethods.addAll(getCallingMethods(psiFile, methodKey));
+            }
+        }
+        callingMethods.remove(method);
+        return new ArrayList<>(callingMethods);
+    }
+
+    Set<PsiMethod> getCallingMethods(PsiFile file, String methodKey) {
+        return CachedValuesManager.getCachedValue(file, CALLING_METHODS_KEY, () -> CachedValueProvider.Result.create(
+                indexFile(file),
+                file,
+                PsiModificationTracker.getInstance(project).getJavaStructureModificationTracker()
+        )).getOrDefault(methodKey, Collections.emptySet());
+    }
+
+    static String getMethodKey(PsiMethod method) {
+        PsiClass containingClass = method.getContainingClass();
+        String className = containingClass != null ? containingClass.getQualifiedName() : null;
+        if (className == null) {
+            return null;
+        }
+        return Arrays.stream(method.getParameterList().getParameters())
+                .map(parameter -> TypeConversionUtil.erasure(parameter.getType()).getCanonicalText())
+                .collect(Collectors.joining(",", className + "#" + method.getName() + "(", ")"));
+    }
+
+    private boolean isIndexed(PsiMethod method) {
+        if (DumbService.isDumb(project) || !method.isPhysical()) {
+            return false;
+        }
+        return Optional.ofNullable(method.getContainingFile())
+                .map(PsiFile::getVirtualFile)
+                .map(project.getService(JavaFileContextIndex.class)::getFileContext)
+                .filter(JavaFileContext.TEST::equals)
+                .isPresent();
+    }
+
+    private VirtualFile[] getCandidateFiles(PsiMethod method) {
+        String calledName = method.isConstructor() ? method.getContainingClass().getName() : method.getName();
+        GlobalSearchScope testJavaFiles = GlobalSearchScope.getScopeRestrictedByFileTypes(
+                GlobalSearchScopesCore.projectTestScope(project), JavaFileType.INSTANCE);
+        return CacheManager.SERVICE.getInstance(project).getVirtualFilesWithWord(calledName, UsageSearchContext.IN_CODE, testJavaFiles, true);
+    }
+
+    private List<PsiMethod> searchCallingMethods(PsiMethod method) {
+        return ReferencesSearch.search(method)
+                .findAll()
+                .stream()
+                .map(reference -> PsiTreeUtil.getParentOfType(reference.getElement(), PsiMethod.class))
+                .filter(callingMethod -> callingMethod != null && callingMethod != method)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Set<PsiMethod>> indexFile(PsiFile file) {
+        Map<String, Set<PsiMethod>> fileCallingMethods = new HashMap<>();
+        file.accept(new JavaRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitReferenceExpression(PsiReferenceExpression expression) {
+                super.visitReferenceExpression(expression);
+                addCall(expression, ResolutionCache.resolve(expression));
+            }
+
+            @Override
+            public void visitNewExpression(PsiNewExpression expression) {
+                super.visitNewExpression(expression);
+                addCall(expression, expression.resolveConstructor());
+            }
+
+            private void addCall(PsiElement callElement, PsiElement calledElement) {
+                ProgressManager.checkCanceled();
+                if (calledElement instanceof PsiMethod) {
+                    PsiMethod callingMethod = PsiTreeUtil.getParentOfType(callElement, PsiMethod.class);
+                    String calledMethodKey = getMethodKey((PsiMethod) calledElement);
+                    if (callingMethod != null && calledMethodKey != null) {
+                        fileCallingMethods.computeIfAbsent(calledMethodKey, key -> new LinkedHashSet<>()).add(callingMethod);
+                    }
+                }
+            }
+        });
+        return fileCallingMethods;
+    }
+}
@@ -0,0 +1,38 @@
+package com.testspector.model.checking.java.common.search;
+
+import com.testspector.model.checking.java.common.JavaContextIndicator;
+import com.testspector.model.checking.java.common.JavaMethodResolver;
+
+public class ElementSearchContext {
+
+    private final ElementSearchEngine elementSearchEngine;
+
+    private final JavaContextIndicator contextIndicator;
+
+    private final JavaMethodResolver methodResolver;
+
+    private final HelperMethodSummaryEngine summaryEngine;
+
+    public ElementSearchContext(ElementSearchEngine elementSearchEngine, JavaContextIndicator contextIndicator, JavaMethodResolver methodResolver, HelperMethodSummaryEngine summaryEngine) {
+        this.elementSearchEngine = elementSearchEngine;
+        this.contextIndicator = contextIndicator;
+        this.methodResolver = methodResolver;
+        this.summaryEngine = summaryEngine;
+    }
+
+    public ElementSearchEngine getElementSearchEngine() {
+        return elementSearchEngine;
+    }
+
+    public JavaContextIndicator getContextIndicator() {
+        return contextIndicator;
+    }
+
+    public JavaMethodResolver getMethodResolver() {
+        return methodResolver;
+    }
+
+    public HelperMethodSummaryEngine getSummaryEngine() {
+        return summaryEngine;
+    }
+}
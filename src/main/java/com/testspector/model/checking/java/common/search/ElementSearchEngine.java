@@ -1,98 +1,358 @@
 package com.testspector.model.checking.java.common.search;
 
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiReferenceExpression;
 import com.intellij.psi.impl.file.PsiPackageBase;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.testspector.model.checking.java.common.JavaContextIndicator;
+import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.LibraryAssertionCatalog;
+import com.testspector.model.checking.java.common.ResolutionCache;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class ElementSearchEngine {
 
-    private HashMap<PsiElement, HashMap<ElementSearchQuery, ElementSearchResult>> cache = new HashMap<>();
+    private static final Key<CachedValue<Map<ElementSearchQuery<?>, ElementSearchResult<?>>>> SEARCH_RESULTS_KEY =
+            Key.create("testspector.elementSearchResults");
 
+    private static final Key<CachedValue<Map<ElementSearchQuery<?>, Optional<?>>>> FIRST_MATCHES_KEY =
+            Key.create("testspector.elementSearchFirstMatches");
+
+    private final ElementSearchContext searchContext;
+
+    public ElementSearchEngine() {
+        this(new JavaContextIndicator());
+    }
+
+    public ElementSearchEngine(JavaContextIndicator contextIndicator) {
+        JavaMethodResolver methodResolver = new JavaMethodResolver(this, contextIndicator);
+        this.searchContext = new ElementSearchContext(this, contextIndicator, methodResolver, new HelperMethodSummaryEngine(contextIndicator, methodResolver));
+    }
+
+    public ElementSearchContext getSearchContext() {
+        return searchContext;
+    }
+
+    @SuppressWarnings("unchecked")
     public <T> ElementSearchResult<T> findByQuery(PsiElement element, ElementSearchQuery<T> query) {
-        HashMap<ElementSearchQuery, ElementSearchResult> resultHashMap = cache.get(element);
-        ElementSearchResult<T> result = null;
-        if (resultHashMap == null) {
-            resultHashMap = new HashMap<>();
-            cache.put(element, resultHashMap);
-        } else {
-            result = resultHashMap.get(query);
-        }
+        Map<ElementSearchQuery<?>, ElementSearchResult<?>> cachedResults = getCachedResults(element);
+        ElementSearchResult<T> result = (ElementSearchResult<T>) cachedResults.get(query);
         if (result == null) {
-            result = findByQuery(new HashMap<>(), new HashSet<>(), null, null, element, query);
-            resultHashMap.put(query, result);
+            result = (ElementSearchResult<T>) findByQueries(element, Collections.singletonList(query), cachedResults).get(query);
         }
         return result;
     }
 
-    private <T> ElementSearchResult<T> findByQuery(
-            HashMap<PsiElement, ElementSearchResult<T>> visitedElementsMap,
-            HashSet<PsiElement> visitedElements,
-            List<T> elementsOfTheCurrentLevel,
-            List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> referencedResults,
-            PsiElement psiElement,
-            ElementSearchQuery<T> elementSearchQuery) {
-        Class<T> elementType = elementSearchQuery.getElementType();
-        Predicate<T> typeCondition = elementSearchQuery.getWhereTypeCondition();
-        elementsOfTheCurrentLevel = Optional.ofNullable(elementsOfTheCurrentLevel).orElse(new ArrayList<>());
-        referencedResults = Optional.ofNullable(referencedResults).orElse(new ArrayList<>());
-        if (!(psiElement instanceof PsiPackageBase)) {
-            for (PsiElement child : psiElement.getChildren()) {
-                if (elementType.isInstance(child) && typeCondition.test(elementType.cast(child))) {
-                    elementsOfTheCurrentLevel.add(elementType.cast(child));
-                    if (elementSearchQuery.isOnlyFirstMatch()) {
-                        return new ElementSearchResult<>(referencedResults, elementsOfTheCurrentLevel);
+    public boolean exists(PsiElement element, ElementSearchQuery<?> query) {
+        ElementSearchResult<?> cachedResult = getCachedResults(element).get(query);
+        if (cachedResult != null) {
+            return !cachedResult.getElementsFromAllLevels().isEmpty();
+        }
+        return findFirst(element, query).isPresent();
+    }
+
+    public int count(PsiElement element, ElementSearchQuery<?> query) {
+        return findByQuery(element, query).getElementsFromAllLevels().size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> findFirst(PsiElement element, ElementSearchQuery<T> query) {
+        Map<ElementSearchQuery<?>, Optional<?>> cachedFirstMatches = getCachedFirstMatches(element);
+        Optional<T> firstMatch = (Optional<T>) cachedFirstMatches.get(query);
+        if (firstMatch == null) {
+            firstMatch = findFirst(new QuerySearch<>(query), element);
+            cachedFirstMatches.put(query, firstMatch);
+        }
+        return firstMatch;
+    }
+
+    public ElementSearchFacts findByQueries(PsiElement element, List<ElementSearchQuery<?>> queries) {
+        Map<ElementSearchQuery<?>, ElementSearchResult<?>> cachedResults = getCachedResults(element);
+        List<ElementSearchQuery<?>> missingQueries = queries.stream()
+                .filter(query -> !cachedResults.containsKey(query))
+                .collect(Collectors.toList());
+        if (!missingQueries.isEmpty()) {
+            findByQueries(element, missingQueries, cachedResults);
+        }
+        Map<ElementSearchQuery<?>, ElementSearchResult<?>> facts = new HashMap<>();
+        for (ElementSearchQuery<?> query : queries) {
+            facts.put(query, cachedResults.get(query));
+        }
+        return new ElementSearchFacts(facts);
+    }
+
+    private Map<ElementSearchQuery<?>, ElementSearchResult<?>> findByQueries(PsiElement element,
+                                                                         List<ElementSearchQuery<?>> queries,
+                                                                         Map<ElementSearchQuery<?>, ElementSearchResult<?>> cachedResults) {
+        List<QuerySearch<?>> querySearches = queries.stream()
+                .map(QuerySearch::new)
+                .collect(Collectors.toList());
+        Level[] levels = new Level[querySearches.size()];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = new Level();
+        }
+        findByQueries(querySearches, levels, element);
+        Map<ElementSearchQuery<?>, ElementSearchResult<?>> results = new HashMap<>();
+        for (int i = 0; i < levels.length; i++) {
+            QuerySearch<?> querySearch = querySearches.get(i);
+            results.put(querySearch.query, levels[i].toResult(querySearch.partial));
+        }
+        cachedResults.putAll(results);
+        return results;
+    }
+
+    private Map<ElementSearchQuery<?>, ElementSearchResult<?>> getCachedResults(PsiElement element) {
+        return CachedValuesManager.getManager(element.getProject()).getCachedValue(element, SEARCH_RESULTS_KEY, () -> {
+            Map<ElementSearchQuery<?>, ElementSearchResult<?>> results = new ConcurrentHashMap<>();
+            return CachedValueProvider.Result.create(results, PsiModificationTracker.MODIFICATION_COUNT,
+                    LibraryAssertionCatalog.getInstance().getModificationTracker());
+        }, false);
+    }
+
+    private Map<ElementSearchQuery<?>, Optional<?>> getCachedFirstMatches(PsiElement element) {
+        return CachedValuesManager.getManager(element.getProject()).getCachedValue(element, FIRST_MATCHES_KEY, () -> {
+            Map<ElementSearchQuery<?>, Optional<?>> firstMatches = new ConcurrentHashMap<>();
+            return CachedValueProvider.Result.create(firstMatches, PsiModificationTracker.MODIFICATION_COUNT,
+                    LibraryAssertionCatalog.getInstance().getModificationTracker());
+        }, false);
+    }
+
+    private <T> Optional<T> findFirst(QuerySearch<T> querySearch, PsiElement psiElement) {
+        Class<T> elementType = querySearch.query.getElementType();
+        Deque<Pair<PsiElement, Integer>> elements = new ArrayDeque<>();
+        pushChildren(querySearch, elements, psiElement, 0);
+        while (!elements.isEmpty()) {
+            ProgressManager.checkCanceled();
+            Pair<PsiElement, Integer> next = elements.pop();
+            PsiElement element = next.getLeft();
+            int referenceDepth = next.getRight();
+            if (!querySearch.visit()) {
+                return Optional.empty();
+            }
+            if (querySearch.matches(searchContext, element)) {
+                return Optional.of(elementType.cast(element));
+            }
+            pushChildren(querySearch, elements, element, referenceDepth);
+            if (element instanceof PsiReferenceExpression) {
+                PsiElement referencedElement = ResolutionCache.resolve((PsiReferenceExpression) element);
+                if (referencedElement != null && !querySearch.visitedElements.contains(referencedElement) &&
+                        querySearch.query.getReferencesCondition().test(searchContext, referencedElement)) {
+                    if (querySearch.matches(searchContext, referencedElement)) {
+                        return Optional.of(elementType.cast(referencedElement));
+                    }
+                    if (referenceDepth < querySearch.query.getMaxReferenceDepth()) {
+                        querySearch.visitedElements.add(referencedElement);
+                        if (hasRequiredFact(querySearch.query, referencedElement)) {
+                            pushChildren(querySearch, elements, referencedElement, referenceDepth + 1);
+                        }
                     }
                 }
-                if (child instanceof PsiReferenceExpression) {
-                    addReferences(
-                            child,
-                            referencedResults,
-                            visitedElementsMap,
-                            visitedElements,
-                            elementsOfTheCurrentLevel,
-                            elementSearchQuery
-                    );
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void pushChildren(QuerySearch<?> querySearch, Deque<Pair<PsiElement, Integer>> elements, PsiElement element, int referenceDepth) {
+        if (!(element instanceof PsiPackageBase)) {
+            PsiElement[] children = element.getChildren();
+            for (int i = children.length - 1; i >= 0; i--) {
+                if (!querySearch.query.canPrune(children[i])) {
+                    elements.push(Pair.of(children[i], referenceDepth));
                 }
-                findByQuery(
-                        visitedElementsMap,
-                        visitedElements,
-                        elementsOfTheCurrentLevel,
-                        referencedResults,
-                        child,
-                        elementSearchQuery);
             }
         }
-        return new ElementSearchResult<>(referencedResults, elementsOfTheCurrentLevel);
-    }
-
-    private <T> void addReferences(PsiElement child, List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> referencedResults,
-                                   HashMap<PsiElement, ElementSearchResult<T>> visitedElementsMap,
-                                   HashSet<PsiElement> visitedElements, List<T> elementsOfTheCurrentLevel,
-                                   ElementSearchQuery<T> elementSearchQuery) {
-        Class<T> elementType = elementSearchQuery.getElementType();
-        Predicate<T> typeCondition = elementSearchQuery.getWhereTypeCondition();
-        PsiElement referencedElement = ((PsiReferenceExpression) child).resolve();
-        Optional.ofNullable(visitedElementsMap.get(referencedElement)).ifPresent(result -> referencedResults.add(Pair.of((PsiReferenceExpression) child, result)));
-        if (referencedElement != null && !visitedElements.contains(referencedElement)) {
-            visitedElements.add(referencedElement);
-            if (elementSearchQuery.getReferencesCondition().test(referencedElement)) {
-                if (elementType.isInstance(referencedElement) && typeCondition.test(elementType.cast(referencedElement))) {
-                    elementsOfTheCurrentLevel.add(elementType.cast(referencedElement));
+    }
+
+    private void findByQueries(List<QuerySearch<?>> querySearches, Level[] levels, PsiElement psiElement) {
+        Deque<Frame> frames = new ArrayDeque<>();
+        frames.push(new Frame(psiElement, levels, 0, null, null));
+        while (!frames.isEmpty()) {
+            ProgressManager.checkCanceled();
+            Frame frame = frames.peek();
+            if (frame.nextChild >= frame.children.length) {
+                frames.pop();
+                if (frame.referenceExpression != null) {
+                    completeReference(querySearches, frame);
+                }
+                continue;
+            }
+            PsiElement child = frame.children[frame.nextChild++];
+            boolean anyActive = false;
+            boolean descend = false;
+            for (int i = 0; i < frame.levels.length; i++) {
+                Level level = frame.levels[i];
+                QuerySearch<?> querySearch = querySearches.get(i);
+                if (level == null) {
+                    continue;
+                }
+                if (querySearch.query.canPrune(child)) {
+                    anyActive = true;
+                    continue;
+                }
+                if (!querySearch.visit()) {
+                    continue;
+                }
+                if (querySearch.matches(searchContext, child)) {
+                    level.elements.add(child);
+                    if (querySearch.query.isOnlyFirstMatch()) {
+                        frame.deactivate(i);
+                        continue;
+                    }
                 }
-                ElementSearchResult<T> next = findByQuery(
-                        visitedElementsMap,
-                        visitedElements,
-                        null,
-                        null,
-                        referencedElement,
-                        elementSearchQuery);
-                visitedElementsMap.put(referencedElement, next);
-                referencedResults.add(Pair.of((PsiReferenceExpression) child, next));
+                anyActive = true;
+                descend = true;
+            }
+            if (!anyActive) {
+                frame.nextChild = frame.children.length;
+                continue;
+            }
+            if (!descend) {
+                continue;
+            }
+            frames.push(new Frame(child, frame.levels, frame.referenceDepth, null, null));
+            if (child instanceof PsiReferenceExpression) {
+                Optional.ofNullable(addReferences(querySearches, frame, (PsiReferenceExpression) child))
+                        .ifPresent(frames::push);
+            }
+        }
+    }
+
+    private Frame addReferences(List<QuerySearch<?>> querySearches, Frame frame, PsiReferenceExpression referenceExpression) {
+        PsiElement referencedElement = ResolutionCache.resolve(referenceExpression);
+        Level[] referencedLevels = null;
+        for (int i = 0; i < frame.levels.length; i++) {
+            Level level = frame.levels[i];
+            QuerySearch<?> querySearch = querySearches.get(i);
+            if (level == null || querySearch.exhausted) {
+                continue;
+            }
+            Optional.ofNullable(querySearch.visitedElementsMap.get(referencedElement))
+                    .ifPresent(result -> level.referencedResults.add(Pair.of(referenceExpression, result)));
+            if (referencedElement != null && !querySearch.visitedElements.contains(referencedElement) &&
+                    querySearch.query.getReferencesCondition().test(searchContext, referencedElement)) {
+                if (querySearch.matches(searchContext, referencedElement)) {
+                    level.elements.add(referencedElement);
+                }
+                if (frame.referenceDepth >= querySearch.query.getMaxReferenceDepth()) {
+                    querySearch.partial = true;
+                    continue;
+                }
+                querySearch.visitedElements.add(referencedElement);
+                if (!hasRequiredFact(querySearch.query, referencedElement)) {
+                    ElementSearchResult<?> empty = new ElementSearchResult<>(new ArrayList<>(), new ArrayList<>());
+                    querySearch.visitedElementsMap.put(referencedElement, empty);
+                    level.referencedResults.add(Pair.of(referenceExpression, empty));
+                    continue;
+                }
+                if (referencedLevels == null) {
+                    referencedLevels = new Level[frame.levels.length];
+                }
+                referencedLevels[i] = new Level();
+            }
+        }
+        if (referencedLevels == null) {
+            return null;
+        }
+        return new Frame(referencedElement, referencedLevels, frame.referenceDepth + 1, referenceExpression, frame.levels);
+    }
+
+    private boolean hasRequiredFact(ElementSearchQuery<?> query, PsiElement referencedElement) {
+        if (!(referencedElement instanceof PsiMethod || referencedElement instanceof PsiField)) {
+            return true;
+        }
+        return query.getRequiredFact()
+                .map(fact -> searchContext.getSummaryEngine().getSummary(referencedElement).hasFact(fact))
+                .orElse(true);
+    }
+
+    private void completeReference(List<QuerySearch<?>> querySearches, Frame frame) {
+        for (int i = 0; i < frame.resultLevels.length; i++) {
+            Level level = frame.resultLevels[i];
+            if (level != null) {
+                QuerySearch<?> querySearch = querySearches.get(i);
+                ElementSearchResult<?> next = level.toResult(querySearch.partial);
+                querySearch.visitedElementsMap.put(frame.element, next);
+                frame.referencingLevels[i].referencedResults.add(Pair.of(frame.referenceExpression, next));
+            }
+        }
+    }
+
+    private static final class QuerySearch<T> {
+
+        private final ElementSearchQuery<T> query;
+        private final HashMap<PsiElement, ElementSearchResult<?>> visitedElementsMap = new HashMap<>();
+        private final HashSet<PsiElement> visitedElements = new HashSet<>();
+        private int visitedNodes;
+        private boolean partial;
+        private boolean exhausted;
+
+        private QuerySearch(ElementSearchQuery<T> query) {
+            this.query = query;
+        }
+
+        private boolean visit() {
+            if (!exhausted && ++visitedNodes > query.getMaxVisitedNodes()) {
+                exhausted = true;
+                partial = true;
+            }
+            return !exhausted;
+        }
+
+        private boolean matches(ElementSearchContext searchContext, PsiElement element) {
+            return query.canMatch(element) && query.getWhereTypeCondition().test(searchContext, query.getElementType().cast(element));
+        }
+    }
+
+    private static final class Level {
+
+        private final List<Object> elements = new ArrayList<>();
+        private final List<Pair<PsiReferenceExpression, ElementSearchResult<?>>> referencedResults = new ArrayList<>();
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private ElementSearchResult<?> toResult(boolean partial) {
+            return new ElementSearchResult(referencedResults, elements, partial);
+        }
+    }
+
+    private static final class Frame {
+
+        private final PsiElement element;
+        private final PsiElement[] children;
+        private final int referenceDepth;
+        private final Level[] resultLevels;
+        private final PsiReferenceExpression referenceExpression;
+        private final Level[] referencingLevels;
+        private Level[] levels;
+        private boolean ownsLevels;
+        private int nextChild;
+
+        private Frame(PsiElement element, Level[] levels, int referenceDepth, PsiReferenceExpression referenceExpression, Level[] referencingLevels) {
+            this.element = element;
+            this.children = element instanceof PsiPackageBase ? PsiElement.EMPTY_ARRAY : element.getChildren();
+            this.referenceDepth = referenceDepth;
+            this.resultLevels = levels;
+            this.referenceExpression = referenceExpression;
+            this.referencingLevels = referencingLevels;
+            this.levels = levels;
+        }
+
+        private void deactivate(int index) {
+            if (!ownsLevels) {
+                levels = levels.clone();
+                ownsLevels = true;
             }
+            levels[index] = null;
         }
     }
 }
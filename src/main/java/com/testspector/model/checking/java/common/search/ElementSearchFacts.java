@@ -0,0 +1,22 @@
+package com.testspector.model.checking.java.common.search;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class ElementSearchFacts {
+
+    private final Map<ElementSearchQuery<?>, ElementSearchResult<?>> results;
+
+    ElementSearchFacts(Map<ElementSearchQuery<?>, ElementSearchResult<?>> results) {
+        this.results = Collections.unmodifiableMap(results);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ElementSearchResult<T> getResult(ElementSearchQuery<T> query) {
+        return (ElementSearchResult<T>) results.get(query);
+    }
+
+    public boolean contains(ElementSearchQuery<?> query) {
+        return results.containsKey(query);
+    }
+}
@@ -1,39 +1,102 @@
 package com.testspector.model.checking.java.common.search;
 
-import com.intellij.psi.PsiElement;
+import com.intellij.psi.*;
 
-import java.util.function.Predicate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
 
 public class ElementSearchQuery<T> {
 
+    private static final List<Class<? extends PsiElement>> NON_CODE_ELEMENT_TYPES = List.of(
+            PsiWhiteSpace.class,
+            PsiComment.class,
+            PsiJavaToken.class,
+            PsiImportList.class
+    );
+
+    private static final ClassValue<Boolean> NON_CODE_ELEMENT_CLASSES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return NON_CODE_ELEMENT_TYPES.stream().anyMatch(nonCodeElementType -> nonCodeElementType.isAssignableFrom(type));
+        }
+    };
+
     private final Class<T> elementType;
 
-    private final Predicate<T> whereTypeCondition;
+    private final List<Class<? extends T>> candidateTypes;
+
+    private final ClassValue<Boolean> candidateClasses = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return candidateTypes.stream().anyMatch(candidateType -> candidateType.isAssignableFrom(type));
+        }
+    };
+
+    private final boolean pruningNonCodeElements;
+
+    private final BiPredicate<ElementSearchContext, T> whereTypeCondition;
 
-    private final Predicate<PsiElement> referencesCondition;
+    private final BiPredicate<ElementSearchContext, PsiElement> referencesCondition;
 
     private final boolean onlyFirstMatch;
 
-     ElementSearchQuery(Class<T> elementType, Predicate<T> typeCondition, Predicate<PsiElement> referencesCondition, boolean onlyFirstMatch) {
+    private final int maxReferenceDepth;
+
+    private final int maxVisitedNodes;
+
+    private final HelperMethodFact requiredFact;
+
+     ElementSearchQuery(Class<T> elementType, List<Class<? extends T>> candidateTypes, BiPredicate<ElementSearchContext, T> typeCondition, BiPredicate<ElementSearchContext, PsiElement> referencesCondition, boolean onlyFirstMatch, int maxReferenceDepth, int maxVisitedNodes, HelperMethodFact requiredFact) {
         this.elementType = elementType;
+        this.candidateTypes = candidateTypes;
+        this.pruningNonCodeElements = candidateTypes.stream().allMatch(candidateType ->
+                PsiExpression.class.isAssignableFrom(candidateType) || PsiStatement.class.isAssignableFrom(candidateType));
         this.whereTypeCondition = typeCondition;
         this.referencesCondition = referencesCondition;
          this.onlyFirstMatch = onlyFirstMatch;
+         this.maxReferenceDepth = maxReferenceDepth;
+         this.maxVisitedNodes = maxVisitedNodes;
+         this.requiredFact = requiredFact;
      }
 
     public Class<T> getElementType() {
         return elementType;
     }
 
-    public Predicate<T> getWhereTypeCondition() {
+    public List<Class<? extends T>> getCandidateTypes() {
+        return candidateTypes;
+    }
+
+    public boolean canMatch(PsiElement element) {
+        return candidateClasses.get(element.getClass());
+    }
+
+    public boolean canPrune(PsiElement element) {
+        return pruningNonCodeElements && NON_CODE_ELEMENT_CLASSES.get(element.getClass());
+    }
+
+    public BiPredicate<ElementSearchContext, T> getWhereTypeCondition() {
         return whereTypeCondition;
     }
 
-    public Predicate<PsiElement> getReferencesCondition() {
+    public BiPredicate<ElementSearchContext, PsiElement> getReferencesCondition() {
         return referencesCondition;
     }
 
     public boolean isOnlyFirstMatch() {
         return onlyFirstMatch;
     }
+
+    public int getMaxReferenceDepth() {
+        return maxReferenceDepth;
+    }
+
+    public int getMaxVisitedNodes() {
+        return maxVisitedNodes;
+    }
+
+    public Optional<HelperMethodFact> getRequiredFact() {
+        return Optional.ofNullable(requiredFact);
+    }
 }
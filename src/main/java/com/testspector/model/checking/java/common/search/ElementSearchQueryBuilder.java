@@ -2,23 +2,43 @@ package com.testspector.model.checking.java.common.search;
 
 import com.intellij.psi.PsiElement;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 class ElementSearchQueryBuilder<T> {
 
+    static final int DEFAULT_MAX_REFERENCE_DEPTH = 32;
+    static final int DEFAULT_MAX_VISITED_NODES = 100_000;
+
     private Class<T> searchedElementType;
-    private Predicate<T> typeCondition;
-    private Predicate<PsiElement> referencesCondition;
+    private List<Class<? extends T>> candidateTypes;
+    private BiPredicate<ElementSearchContext, T> typeCondition;
+    private BiPredicate<ElementSearchContext, PsiElement> referencesCondition;
     private boolean onlyFirstMatch = false;
+    private int maxReferenceDepth = DEFAULT_MAX_REFERENCE_DEPTH;
+    private int maxVisitedNodes = DEFAULT_MAX_VISITED_NODES;
+    private HelperMethodFact requiredFact;
 
 
     ElementSearchQueryBuilder<T> elementOfType(Class<T> searchedElementType) {
+        return elementOfAnyType(searchedElementType, Collections.singletonList(searchedElementType));
+    }
+
+    ElementSearchQueryBuilder<T> elementOfAnyType(Class<T> searchedElementType, List<Class<? extends T>> candidateTypes) {
         this.searchedElementType = searchedElementType;
-        this.typeCondition = (el) -> true;
+        this.candidateTypes = candidateTypes;
+        this.typeCondition = (context, el) -> true;
         return this;
     }
 
     ElementSearchQueryBuilder<T> whereElement(Predicate<T> typeCondition) {
+        this.typeCondition = (context, el) -> typeCondition.test(el);
+        return this;
+    }
+
+    ElementSearchQueryBuilder<T> whereElement(BiPredicate<ElementSearchContext, T> typeCondition) {
         this.typeCondition = typeCondition;
         return this;
     }
@@ -28,17 +48,37 @@ class ElementSearchQueryBuilder<T> {
         return this;
     }
 
+    ElementSearchQueryBuilder<T> maxReferenceDepth(int maxReferenceDepth) {
+        this.maxReferenceDepth = maxReferenceDepth;
+        return this;
+    }
+
+    ElementSearchQueryBuilder<T> maxVisitedNodes(int maxVisitedNodes) {
+        this.maxVisitedNodes = maxVisitedNodes;
+        return this;
+    }
+
+    ElementSearchQueryBuilder<T> requiringFact(HelperMethodFact requiredFact) {
+        this.requiredFact = requiredFact;
+        return this;
+    }
+
     ElementSearchQueryBuilder<T> withoutReferences() {
-        this.referencesCondition = (element) -> false;
+        this.referencesCondition = (context, element) -> false;
         return this;
     }
 
     ElementSearchQueryBuilder<T> withReferences() {
-        this.referencesCondition = (element) -> true;
+        this.referencesCondition = (context, element) -> true;
         return this;
     }
 
     ElementSearchQueryBuilder<T> whereReferences(Predicate<PsiElement> referencesCondition) {
+        this.referencesCondition = (context, element) -> referencesCondition.test(element);
+        return this;
+    }
+
+    ElementSearchQueryBuilder<T> whereReferences(BiPredicate<ElementSearchContext, PsiElement> referencesCondition) {
         this.referencesCondition = referencesCondition;
         return this;
     }
@@ -50,14 +90,26 @@ class ElementSearchQueryBuilder<T> {
             throw new IllegalStateException("Searched element type was not set!");
         }
 
+        if (candidateTypes.isEmpty()) {
+            throw new IllegalStateException("At least one candidate element type must be set!");
+        }
+
         if (referencesCondition == null) {
             throw new IllegalStateException("Whether search should be with or without references was not stated!");
         }
 
+        if (maxReferenceDepth < 0 || maxVisitedNodes < 1) {
+            throw new IllegalStateException("Search limits must be positive!");
+        }
+
         return new ElementSearchQuery<>(
                 searchedElementType,
+                Collections.unmodifiableList(candidateTypes),
                 typeCondition,
                 referencesCondition,
-                onlyFirstMatch);
+                onlyFirstMatch,
+                maxReferenceDepth,
+                maxVisitedNodes,
+                requiredFact);
     }
 }
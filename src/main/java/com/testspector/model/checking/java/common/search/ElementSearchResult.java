@@ -4,16 +4,32 @@ import com.intellij.psi.PsiReferenceExpression;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 public class ElementSearchResult<T> {
     private final List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> referencedResults;
     private final List<T> elements;
+    private final boolean partial;
+    private volatile List<T> elementsFromAllLevels;
 
     public ElementSearchResult(List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> referencedResults, List<T> elements) {
-        this.referencedResults = Collections.unmodifiableList(referencedResults);
-        this.elements = Collections.unmodifiableList(elements);
+        this(referencedResults, elements, false);
+    }
+
+    public ElementSearchResult(List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> referencedResults, List<T> elements, boolean partial) {
+        this.referencedResults = toUnmodifiableList(referencedResults);
+        this.elements = toUnmodifiableList(elements);
+        this.partial = partial;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> toUnmodifiableList(List<E> list) {
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList((E[]) list.toArray()));
     }
 
     public List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> getReferencedResults() {
@@ -24,14 +40,28 @@ public class ElementSearchResult<T> {
         return elements;
     }
 
+    public boolean isPartial() {
+        return partial;
+    }
+
     public List<T> getElementsFromAllLevels() {
-        List<T> result = new ArrayList<>();
-        result.addAll(this.getElementsOfCurrentLevel());
-        for (Pair<PsiReferenceExpression, ElementSearchResult<T>> referencedResult : this.getReferencedResults()) {
-            result.addAll(referencedResult.getRight().getElementsFromAllLevels());
+        List<T> result = elementsFromAllLevels;
+        if (result == null) {
+            result = flattenElements();
+            elementsFromAllLevels = result;
         }
+        return result;
+    }
 
-        return Collections.unmodifiableList(result);
+    private List<T> flattenElements() {
+        if (referencedResults.isEmpty()) {
+            return elements;
+        }
+        List<T> result = new ArrayList<>(elements);
+        for (Pair<PsiReferenceExpression, ElementSearchResult<T>> referencedResult : referencedResults) {
+            result.addAll(referencedResult.getRight().getElementsFromAllLevels());
+        }
+        return toUnmodifiableList(result);
     }
 
 }
@@ -3,12 +3,9 @@ package com.testspector.model.checking.java.common.search;
 import com.intellij.psi.PsiReferenceExpression;
 import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 public final class ElementSearchResultUtils {
 
@@ -17,37 +14,78 @@ public final class ElementSearchResultUtils {
 
 
     public static <T> ElementSearchResult<T> concatResults(List<ElementSearchResult<T>> results) {
+        if (results.size() == 1) {
+            return results.get(0);
+        }
         List<T> currentLevelElements = new ArrayList<>();
         List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> currentLevelReferences = new ArrayList<>();
+        boolean partial = false;
         for (ElementSearchResult<T> result : results) {
             currentLevelElements.addAll(result.getElementsOfCurrentLevel());
             currentLevelReferences.addAll(result.getReferencedResults());
+            partial |= result.isPartial();
         }
-        return new ElementSearchResult<T>(currentLevelReferences, currentLevelElements);
+        return new ElementSearchResult<T>(currentLevelReferences, currentLevelElements, partial);
     }
 
     public static <S, R> ElementSearchResult<R> mapResult(ElementSearchResult<S> assertionMethodsSearchResult, Function<S, ElementSearchResult<R>> mappingFunction) {
+        return mapResult(assertionMethodsSearchResult, mappingFunction, new IdentityHashMap<>());
+    }
+
+    private static <S, R> ElementSearchResult<R> mapResult(ElementSearchResult<S> assertionMethodsSearchResult,
+                                                           Function<S, ElementSearchResult<R>> mappingFunction,
+                                                           Map<ElementSearchResult<S>, ElementSearchResult<R>> mappedResults) {
+        ElementSearchResult<R> mappedResult = mappedResults.get(assertionMethodsSearchResult);
+        if (mappedResult != null) {
+            return mappedResult;
+        }
         List<ElementSearchResult<R>> result = new ArrayList<>();
         for (S methodCall : assertionMethodsSearchResult.getElementsOfCurrentLevel()) {
             result.add(mappingFunction.apply(methodCall));
         }
         for (Pair<PsiReferenceExpression, ElementSearchResult<S>> referencedResult : assertionMethodsSearchResult.getReferencedResults()) {
-            ElementSearchResult<R> testedMethodsSearch = mapResult(referencedResult.getRight(), mappingFunction);
-            result.add(new ElementSearchResult<>(Collections.singletonList(Pair.of(referencedResult.getLeft(), testedMethodsSearch)), new ArrayList<>()));
+            ElementSearchResult<R> testedMethodsSearch = mapResult(referencedResult.getRight(), mappingFunction, mappedResults);
+            result.add(new ElementSearchResult<>(Collections.singletonList(Pair.of(referencedResult.getLeft(), testedMethodsSearch)), Collections.emptyList()));
         }
-        return concatResults(result);
+        mappedResult = result.isEmpty() ?
+                new ElementSearchResult<>(Collections.emptyList(), Collections.emptyList(), assertionMethodsSearchResult.isPartial()) :
+                concatResults(result);
+        mappedResults.put(assertionMethodsSearchResult, mappedResult);
+        return mappedResult;
     }
 
     public static <T> ElementSearchResult<T> filterResult(Predicate<T> condition, ElementSearchResult<T> elementSearchResult) {
-        List<T> newElements = elementSearchResult
-                .getElementsOfCurrentLevel()
-                .stream()
-                .filter(condition)
-                .collect(Collectors.toList());
+        return filterResult(condition, elementSearchResult, new IdentityHashMap<>());
+    }
+
+    private static <T> ElementSearchResult<T> filterResult(Predicate<T> condition,
+                                                           ElementSearchResult<T> elementSearchResult,
+                                                           Map<ElementSearchResult<T>, ElementSearchResult<T>> filteredResults) {
+        ElementSearchResult<T> filteredResult = filteredResults.get(elementSearchResult);
+        if (filteredResult != null) {
+            return filteredResult;
+        }
+        boolean changed = false;
+        List<T> newElements = new ArrayList<>();
+        for (T element : elementSearchResult.getElementsOfCurrentLevel()) {
+            if (condition.test(element)) {
+                newElements.add(element);
+            } else {
+                changed = true;
+            }
+        }
         List<Pair<PsiReferenceExpression, ElementSearchResult<T>>> newReferences = new ArrayList<>();
         for (Pair<PsiReferenceExpression, ElementSearchResult<T>> referencedResult : elementSearchResult.getReferencedResults()) {
-            newReferences.add(Pair.of(referencedResult.getLeft(), filterResult(condition, referencedResult.getRight())));
+            ElementSearchResult<T> filteredReferencedResult = filterResult(condition, referencedResult.getRight(), filteredResults);
+            if (filteredReferencedResult != referencedResult.getRight()) {
+                changed = true;
+                newReferences.add(Pair.of(referencedResult.getLeft(), filteredReferencedResult));
+            } else {
+                newReferences.add(referencedResult);
+            }
         }
-        return new ElementSearchResult<T>(newReferences, newElements);
+        filteredResult = changed ? new ElementSearchResult<T>(newReferences, newElements, elementSearchResult.isPartial()) : elementSearchResult;
+        filteredResults.put(elementSearchResult, filteredResult);
+        return filteredResult;
     }
 }
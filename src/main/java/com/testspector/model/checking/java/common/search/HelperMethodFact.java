@@ -0,0 +1,9 @@
+package com.testspector.model.checking.java.common.search;
+
+public enum HelperMethodFact {
+    ASSERTION,
+    CONDITIONAL_LOGIC,
+    MUTABLE_STATIC_FIELD,
+    TRY_CATCH,
+    PRODUCTION_CALL
+}
@@ -0,0 +1,31 @@
+package com.testspector.model.checking.java.common.search;
+
+import com.intellij.psi.PsiFile;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class HelperMethodSummary {
+
+    private final Set<HelperMethodFact> facts;
+
+    private final Set<PsiFile> files;
+
+    public HelperMethodSummary(Set<HelperMethodFact> facts, Set<PsiFile> files) {
+        this.facts = facts.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(facts));
+        this.files = Collections.unmodifiableSet(files);
+    }
+
+    public boolean hasFact(HelperMethodFact fact) {
+        return facts.contains(fact);
+    }
+
+    public Set<HelperMethodFact> getFacts() {
+        return facts;
+    }
+
+    public Set<PsiFile> getFiles() {
+        return files;
+    }
+}
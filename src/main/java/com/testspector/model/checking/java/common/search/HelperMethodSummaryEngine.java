@@ -0,0 +1,259 @@
+package com.testspector.model.checking.java.common.search;
+
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.*;
+import com.intellij.psi.impl.file.PsiPackageBase;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.testspector.model.checking.java.common.JavaContextIndicator;
+import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.LibraryAssertionCatalog;
+import com.testspector.model.checking.java.common.MutableStaticFields;
+import com.testspector.model.checking.java.common.ResolutionCache;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class HelperMethodSummaryEngine {
+
+    private static final Key<CachedValue<HelperMethodSummary>> SUMMARY_KEY = Key.create("testspector.helperMethodSummary");
+    private static final Key<CachedValue<Map<PsiElement, Set<PsiElement>>>> CALLED_HELPERS_KEY = Key.create("testspector.calledHelpers");
+
+    private final JavaContextIndicator contextIndicator;
+
+    private final JavaMethodResolver methodResolver;
+
+    public HelperMethodSummaryEngine(JavaContextIndicator contextIndicator, JavaMethodResolver methodResolver) {
+        this.contextIndicator = contextIndicator;
+        this.methodResolver = methodResolver;
+    }
+
+    public HelperMethodSummary getSummary(PsiElement element) {
+        return CachedValuesManager.getManager(element.getProject())
+                .getCachedValue(element, SUMMARY_KEY, () -> computeSummaries(element), false);
+    }
+
+    public boolean callsHelperWithFact(PsiElement element, HelperMethodFact fact) {
+        PsiFile file = element.getContainingFile();
+        Set<PsiElement> calledHelpers = file != null ? getCalledHelpers(file).get(element) : null;
+        if (calledHelpers == null) {
+            return getSummary(element).hasFact(fact);
+        }
+        return calledHelpers.stream().anyMatch(helper -> getSummary(helper).hasFact(fact));
+    }
+
+    private Map<PsiElement, Set<PsiElement>> getCalledHelpers(PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, CALLED_HELPERS_KEY, () -> CachedValueProvider.Result.create(
+                collectCalledHelpers(file),
+                PsiModificationTracker.MODIFICATION_COUNT
+        ));
+    }
+
+    private Map<PsiElement, Set<PsiElement>> collectCalledHelpers(PsiFile file) {
+        Map<PsiElement, Set<PsiElement>> calledHelpers = new HashMap<>();
+        Set<PsiElement> fileCalledHelpers = new LinkedHashSet<>();
+        calledHelpers.put(file, fileCalledHelpers);
+        file.accept(new JavaRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitMethod(PsiMethod method) {
+                if (PsiTreeUtil.getParentOfType(method, PsiMethod.class) == null) {
+                    calledHelpers.put(method, new LinkedHashSet<>());
+                }
+                super.visitMethod(method);
+            }
+
+            @Override
+            public void visitReferenceExpression(PsiReferenceExpression expression) {
+                super.visitReferenceExpression(expression);
+                ProgressManager.checkCanceled();
+                PsiMethod callingMethod = PsiTreeUtil.getTopmostParentOfType(expression, PsiMethod.class);
+                if (callingMethod == null) {
+                    return;
+                }
+                PsiElement helper = ResolutionCache.resolve(expression);
+                if ((helper instanceof PsiMethod || helper instanceof PsiField) &&
+                        !PsiTreeUtil.isAncestor(callingMethod, helper, false) &&
+                        contextIndicator.isInTestContext().test(helper)) {
+                    calledHelpers.get(callingMethod).add(helper);
+                    fileCalledHelpers.add(helper);
+                }
+            }
+        });
+        return calledHelpers;
+    }
+
+    private CachedValueProvider.Result<HelperMethodSummary> computeSummaries(PsiElement root) {
+        Map<PsiElement, Node> nodes = new HashMap<>();
+        Deque<Node> componentStack = new ArrayDeque<>();
+        Deque<Node> callStack = new ArrayDeque<>();
+        Node rootNode = createNode(root, nodes.size());
+        nodes.put(root, rootNode);
+        componentStack.push(rootNode);
+        callStack.push(rootNode);
+        while (!callStack.isEmpty()) {
+            ProgressManager.checkCanceled();
+            Node node = callStack.peek();
+            if (node.nextSuccessor < node.successors.size()) {
+                PsiElement successor = node.successors.get(node.nextSuccessor++);
+                Node successorNode = nodes.get(successor);
+                if (successorNode == null) {
+                    HelperMethodSummary upToDateSummary = getUpToDateSummary(successor);
+                    if (upToDateSummary != null) {
+                        node.merge(upToDateSummary);
+                        continue;
+                    }
+                    successorNode = createNode(successor, nodes.size());
+                    nodes.put(successor, successorNode);
+                    componentStack.push(successorNode);
+                    callStack.push(successorNode);
+                } else if (successorNode.onComponentStack) {
+                    node.lowLink = Math.min(node.lowLink, successorNode.index);
+                } else {
+                    node.merge(successorNode.summary);
+                }
+                continue;
+            }
+            callStack.pop();
+            if (node.lowLink == node.index) {
+                completeComponent(root, node, componentStack);
+            }
+            Node parent = callStack.peek();
+            if (parent != null) {
+                parent.lowLink = Math.min(parent.lowLink, node.lowLink);
+                if (node.summary != null) {
+                    parent.merge(node.summary);
+                }
+            }
+        }
+        return CachedValueProvider.Result.create(rootNode.summary, getDependencies(root.getProject(), rootNode.summary));
+    }
+
+    private void completeComponent(PsiElement root, Node componentRoot, Deque<Node> componentStack) {
+        List<Node> component = new ArrayList<>();
+        Set<HelperMethodFact> facts = EnumSet.noneOf(HelperMethodFact.class);
+        Set<PsiFile> files = new HashSet<>();
+        Node member;
+        do {
+            member = componentStack.pop();
+            member.onComponentStack = false;
+            component.add(member);
+            facts.addAll(member.facts);
+            files.addAll(member.files);
+        } while (member != componentRoot);
+        HelperMethodSummary summary = new HelperMethodSummary(facts, files);
+        for (Node componentMember : component) {
+            componentMember.summary = summary;
+            if (componentMember.element != root) {
+                storeSummary(componentMember.element, summary);
+            }
+        }
+    }
+
+    private HelperMethodSummary getUpToDateSummary(PsiElement element) {
+        CachedValue<HelperMethodSummary> cachedSummary = element.getUserData(SUMMARY_KEY);
+        if (cachedSummary != null && cachedSummary.hasUpToDateValue()) {
+            return cachedSummary.getValue();
+        }
+        return null;
+    }
+
+    private void storeSummary(PsiElement element, HelperMethodSummary summary) {
+        AtomicReference<CachedValueProvider.Result<HelperMethodSummary>> computedResult = new AtomicReference<>(
+                CachedValueProvider.Result.create(summary, getDependencies(element.getProject(), summary)));
+        CachedValue<HelperMethodSummary> cachedSummary = CachedValuesManager.getManager(element.getProject()).createCachedValue(
+                () -> Optional.ofNullable(computedResult.getAndSet(null)).orElseGet(() -> computeSummaries(element)),
+                false);
+        cachedSummary.getValue();
+        element.putUserData(SUMMARY_KEY, cachedSummary);
+    }
+
+    private Object[] getDependencies(Project project, HelperMethodSummary summary) {
+        List<Object> dependencies = new ArrayList<>(summary.getFiles());
+        dependencies.add(PsiModificationTracker.getInstance(project).getJavaStructureModificationTracker());
+        dependencies.add(ProjectRootManager.getInstance(project));
+        dependencies.add(LibraryAssertionCatalog.getInstance().getModificationTracker());
+        return dependencies.toArray();
+    }
+
+    private Node createNode(PsiElement element, int index) {
+        Node node = new Node(element, index);
+        Optional.ofNullable(element.getContainingFile()).ifPresent(node.files::add);
+        Deque<PsiElement> elements = new ArrayDeque<>();
+        elements.push(element);
+        while (!elements.isEmpty()) {
+            ProgressManager.checkCanceled();
+            PsiElement current = elements.pop();
+            if (current instanceof PsiWhiteSpace || current instanceof PsiComment || current instanceof PsiJavaToken) {
+                continue;
+            }
+            collectFacts(current, node.facts);
+            if (current instanceof PsiReferenceExpression) {
+                PsiElement referencedElement = ResolutionCache.resolve((PsiReferenceExpression) current);
+                if (referencedElement != null &&
+                        !(referencedElement instanceof PsiClass) &&
+                        contextIndicator.isInTestContext().test(referencedElement)) {
+                    node.successors.add(referencedElement);
+                }
+            }
+            if (!(current instanceof PsiPackageBase)) {
+                PsiElement[] children = current.getChildren();
+                for (int i = children.length - 1; i >= 0; i--) {
+                    elements.push(children[i]);
+                }
+            }
+        }
+        return node;
+    }
+
+    private void collectFacts(PsiElement element, Set<HelperMethodFact> facts) {
+        if (element instanceof PsiMethodCallExpression) {
+            PsiMethod method = ResolutionCache.resolveMethod((PsiMethodCallExpression) element);
+            if (method != null) {
+                if (methodResolver.tryToGetAssertionMethod(method).isPresent()) {
+                    facts.add(HelperMethodFact.ASSERTION);
+                }
+                if (contextIndicator.isInProductionCodeContext().test(method)) {
+                    facts.add(HelperMethodFact.PRODUCTION_CALL);
+                }
+            }
+        } else if (element instanceof PsiTryStatement) {
+            facts.add(HelperMethodFact.TRY_CATCH);
+        } else if (element instanceof PsiField) {
+            if (MutableStaticFields.isMutableStaticField((PsiField) element)) {
+                facts.add(HelperMethodFact.MUTABLE_STATIC_FIELD);
+            }
+        } else if (QueriesRepository.CONDITIONAL_STATEMENT_CLASSES.stream().anyMatch(statementClass -> statementClass.isInstance(element))) {
+            facts.add(HelperMethodFact.CONDITIONAL_LOGIC);
+        }
+    }
+
+    private static final class Node {
+
+        private final PsiElement element;
+        private final int index;
+        private final Set<HelperMethodFact> facts = EnumSet.noneOf(HelperMethodFact.class);
+        private final Set<PsiFile> files = new HashSet<>();
+        private final List<PsiElement> successors = new ArrayList<>();
+        private int lowLink;
+        private int nextSuccessor;
+        private boolean onComponentStack = true;
+        private HelperMethodSummary summary;
+
+        private Node(PsiElement element, int index) {
+            this.element = element;
+            this.index = index;
+            this.lowLink = index;
+        }
+
+        private void merge(HelperMethodSummary summary) {
+            facts.addAll(summary.getFacts());
+            files.addAll(summary.getFiles());
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.testspector.model.checking.java.common.search;
 
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.source.PsiClassReferenceType;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.testspector.model.checking.java.common.JavaContextIndicator;
-import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.testspector.model.checking.java.common.ExceptionTypeHierarchy;
+import com.testspector.model.checking.java.common.MutableStaticFields;
+import com.testspector.model.checking.java.common.ResolutionCache;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -13,7 +20,7 @@ import java.util.Optional;
 
 public final class QueriesRepository {
 
-    private static final List<Class<? extends PsiStatement>> CONDITIONAL_STATEMENT_CLASSES = Collections.unmodifiableList(Arrays.asList(
+    static final List<Class<? extends PsiStatement>> CONDITIONAL_STATEMENT_CLASSES = Collections.unmodifiableList(Arrays.asList(
             PsiIfStatement.class,
             PsiWhileStatement.class,
             PsiSwitchStatement.class,
@@ -21,78 +28,78 @@ public final class QueriesRepository {
             PsiForeachStatement.class
     ));
 
-    private QueriesRepository() {
-    }
-
-    private static ElementSearchEngine elementSearchEngine() {
-        return new ElementSearchEngine();
-    }
+    private static final Key<CachedValue<PsiClassType>> ASSERTION_ERROR_TYPE_KEY = Key.create("testspector.assertionErrorType");
 
-    private static JavaContextIndicator contextIndicator() {
-        return new JavaContextIndicator();
+    private QueriesRepository() {
     }
 
-    private static JavaMethodResolver methodResolver() {
-        return new JavaMethodResolver(elementSearchEngine(), contextIndicator());
+    private static PsiClassType getAssertionErrorType(Project project) {
+        return CachedValuesManager.getManager(project).getCachedValue(project, ASSERTION_ERROR_TYPE_KEY, () ->
+                CachedValueProvider.Result.create(
+                        PsiType.getTypeByName("java.lang.AssertionError", project, GlobalSearchScope.allScope(project)),
+                        ProjectRootManager.getInstance(project)
+                ), false);
     }
 
     private static final ElementSearchQuery<PsiMethodCallExpression> FIND_ASSERTION_METHOD_CALL_EXPRESSIONS = new ElementSearchQueryBuilder<PsiMethodCallExpression>()
             .elementOfType(PsiMethodCallExpression.class)
-            .whereElement(psiMethodCallExpression -> methodResolver().tryToGetAssertionMethod(psiMethodCallExpression).isPresent())
+            .whereElement((context, psiMethodCallExpression) -> context.getMethodResolver().tryToGetAssertionMethod(psiMethodCallExpression).isPresent())
             .withoutReferences()
             .build();
 
     public static final ElementSearchQuery<PsiMethodCallExpression> FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS = new ElementSearchQueryBuilder<PsiMethodCallExpression>()
             .elementOfType(PsiMethodCallExpression.class)
-            .whereElement(psiMethodCallExpression ->
-                    methodResolver().tryToGetAssertionMethod(psiMethodCallExpression).isPresent() ||
-                            elementSearchEngine().findByQuery(psiMethodCallExpression, FIND_ASSERTION_METHOD_CALL_EXPRESSIONS)
+            .whereElement((context, psiMethodCallExpression) ->
+                    context.getMethodResolver().tryToGetAssertionMethod(psiMethodCallExpression).isPresent() ||
+                            context.getElementSearchEngine().findByQuery(psiMethodCallExpression, FIND_ASSERTION_METHOD_CALL_EXPRESSIONS)
                                     .getElementsFromAllLevels().size() > 0)
-            .whereReferences(el -> !(el instanceof PsiClass) && contextIndicator().isInTestContext().test(el))
+            .whereReferences((context, el) -> !(el instanceof PsiClass) && context.getContextIndicator().isInTestContext().test(el))
             .onlyFirstMatch()
+            .requiringFact(HelperMethodFact.ASSERTION)
             .build();
 
 
     public static final ElementSearchQuery<PsiLiteralExpression> FIND_ALL_LITERAL_EXPRESSIONS = new ElementSearchQueryBuilder<PsiLiteralExpression>()
             .elementOfType(PsiLiteralExpression.class)
-            .whereReferences(el -> !(el instanceof PsiClass) && contextIndicator().isInTestContext().test(el))
+            .whereReferences((context, el) -> !(el instanceof PsiClass) && context.getContextIndicator().isInTestContext().test(el))
             .build();
 
     public static final ElementSearchQuery<PsiTryStatement> FIND_ALL_TRY_STATEMENTS = new ElementSearchQueryBuilder<PsiTryStatement>()
             .elementOfType(PsiTryStatement.class)
-            .whereReferences(el -> !(el instanceof PsiClass) && contextIndicator().isInTestContext().test(el))
+            .whereReferences((context, el) -> !(el instanceof PsiClass) && context.getContextIndicator().isInTestContext().test(el))
+            .requiringFact(HelperMethodFact.TRY_CATCH)
             .build();
 
     public static final ElementSearchQuery<PsiStatement> FIND_ALL_CONDITIONAL_STATEMENTS = new ElementSearchQueryBuilder<PsiStatement>()
-            .elementOfType(PsiStatement.class)
-            .whereElement(psiStatement -> CONDITIONAL_STATEMENT_CLASSES
-                    .stream()
-                    .anyMatch(supportedStatement -> supportedStatement.isInstance(psiStatement)))
-            .whereReferences(el -> !(el instanceof PsiClass) && contextIndicator().isInTestContext().test(el))
+            .elementOfAnyType(PsiStatement.class, CONDITIONAL_STATEMENT_CLASSES)
+            .whereReferences((context, el) -> !(el instanceof PsiClass) && context.getContextIndicator().isInTestContext().test(el))
+            .requiringFact(HelperMethodFact.CONDITIONAL_LOGIC)
             .build();
 
     public static final ElementSearchQuery<PsiMethodCallExpression> FIND_ALL_PRODUCTION_CODE_METHOD_CALL_EXPRESSIONS = new ElementSearchQueryBuilder<PsiMethodCallExpression>()
             .elementOfType(PsiMethodCallExpression.class)
-            .whereElement(psiMethodCallExpression -> {
-                PsiMethod methodFromAssertion = psiMethodCallExpression.resolveMethod();
-                return methodFromAssertion != null && contextIndicator().isInProductionCodeContext().test(methodFromAssertion);
+            .whereElement((context, psiMethodCallExpression) -> {
+                PsiMethod methodFromAssertion = ResolutionCache.resolveMethod(psiMethodCallExpression);
+                return methodFromAssertion != null && context.getContextIndicator().isInProductionCodeContext().test(methodFromAssertion);
             })
-            .whereReferences(el -> !(el instanceof PsiClass) && contextIndicator().isInTestContext().test(el))
+            .whereReferences((context, el) -> !(el instanceof PsiClass) && context.getContextIndicator().isInTestContext().test(el))
+            .requiringFact(HelperMethodFact.PRODUCTION_CALL)
             .build();
 
     public static final ElementSearchQuery<PsiMethodCallExpression> FIND_ALL_METHOD_CALL_EXPRESSIONS_THROWING_ANY_EXCEPTION_WITHOUT_REFERENCES = new ElementSearchQueryBuilder<PsiMethodCallExpression>()
             .elementOfType(PsiMethodCallExpression.class)
             .whereElement(psiMethodCallExpression -> {
-                PsiMethod method = psiMethodCallExpression.resolveMethod();
-                return method != null && method.getThrowsList().getReferenceElements().length > 0;
+                PsiMethod method = ResolutionCache.resolveMethod(psiMethodCallExpression);
+                return method != null && !ExceptionTypeHierarchy.getThrownTypes(method).isEmpty();
             })
             .withoutReferences()
             .build();
 
     public static final ElementSearchQuery<PsiField> FIND_ALL_STATIC_PROPS = new ElementSearchQueryBuilder<PsiField>()
             .elementOfType(PsiField.class)
-            .whereElement(psiField -> !(psiField instanceof PsiEnumConstant))
-            .whereReferences(el -> (el instanceof PsiMethod || el instanceof PsiField) && contextIndicator().isInTestContext().test(el))
+            .whereElement(MutableStaticFields::isMutableStaticField)
+            .whereReferences((context, el) -> (el instanceof PsiMethod || el instanceof PsiField) && context.getContextIndicator().isInTestContext().test(el))
+            .requiringFact(HelperMethodFact.MUTABLE_STATIC_FIELD)
             .build();
 
     public static final ElementSearchQuery<PsiThrowStatement> FIND_ASSERTION_THROW_STATEMENTS_IN_CUSTOM_ASSERTIONS = new ElementSearchQueryBuilder<PsiThrowStatement>()
@@ -100,11 +107,7 @@ public final class QueriesRepository {
             .whereElement(psiThrowStatement -> Optional.ofNullable(psiThrowStatement.getException())
                     .map(PsiExpression::getType)
                     .filter(psiType -> psiType instanceof PsiClassReferenceType)
-                    .filter(psiType -> PsiType
-                            .getTypeByName("java.lang.AssertionError",
-                                    ((PsiClassReferenceType) psiType).getReference().getProject(),
-                                    GlobalSearchScope.allScope(((PsiClassReferenceType) psiType).getReference().getProject()))
-                            .isAssignableFrom(psiType))
+                    .filter(psiType -> getAssertionErrorType(psiThrowStatement.getProject()).isAssignableFrom(psiType))
                     .isPresent())
             .whereReferences(el -> (el instanceof PsiMethod) && (((PsiMethod) el).getName().toLowerCase().contains("assert") || ((PsiMethod) el).getName().toLowerCase().contains("fail")))
             .build();
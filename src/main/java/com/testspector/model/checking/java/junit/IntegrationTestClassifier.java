@@ -0,0 +1,175 @@
+package com.testspector.model.checking.java.junit;
+
+import com.intellij.lang.jvm.annotation.JvmAnnotationAttributeValue;
+import com.intellij.lang.jvm.annotation.JvmAnnotationClassValue;
+import com.intellij.lang.jvm.annotation.JvmAnnotationConstantValue;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@State(name = "TestspectorIntegrationTests", storages = @Storage("testspector.xml"))
+public class IntegrationTestClassifier implements PersistentStateComponent<IntegrationTestClassifier.Rules> {
+
+    private static final Key<CachedValue<Boolean>> INTEGRATION_TEST_FILE_KEY = Key.create("testspector.integrationTestFile");
+    private static final Key<CachedValue<Boolean>> INTEGRATION_TEST_MODULE_KEY = Key.create("testspector.integrationTestModule");
+    private static final Key<CachedValue<Boolean>> INTEGRATION_TAG_KEY = Key.create("testspector.integrationTag");
+
+    private static final String TAG_ANNOTATION_QUALIFIED_NAME = "org.junit.jupiter.api.Tag";
+    private static final String CATEGORY_ANNOTATION_QUALIFIED_NAME = "org.junit.experimental.categories.Category";
+
+    private final Project project;
+    private final SimpleModificationTracker rulesModificationTracker = new SimpleModificationTracker();
+    private Rules rules = new Rules();
+    private volatile CompiledRules compiledRules = new CompiledRules(rules);
+
+    public IntegrationTestClassifier(Project project) {
+        this.project = project;
+    }
+
+    public static class Rules {
+        public List<String> fileNameGlobs = new ArrayList<>(Arrays.asList("*IT.java"));
+        public List<String> packageGlobs = new ArrayList<>(Arrays.asList("it", "it.*", "*.it", "*.it.*"));
+        public List<String> moduleGlobs = new ArrayList<>(Arrays.asList("it", "it_*", "*integration*"));
+        public List<String> tagGlobs = new ArrayList<>(Arrays.asList("*integration*", "*Integration*", "*INTEGRATION*", "*IT*"));
+        public List<String> categoryGlobs = new ArrayList<>(Arrays.asList("*integration*", "*Integration*", "*INTEGRATION*"));
+    }
+
+    private static class CompiledRules {
+        private final Pattern fileNamePattern;
+        private final Pattern packagePattern;
+        private final Pattern modulePattern;
+        private final Pattern tagPattern;
+        private final Pattern categoryPattern;
+
+        private CompiledRules(Rules rules) {
+            this.fileNamePattern = compileGlobs(rules.fileNameGlobs, 0);
+            this.packagePattern = compileGlobs(rules.packageGlobs, Pattern.CASE_INSENSITIVE);
+            this.modulePattern = compileGlobs(rules.moduleGlobs, Pattern.CASE_INSENSITIVE);
+            this.tagPattern = compileGlobs(rules.tagGlobs, 0);
+            this.categoryPattern = compileGlobs(rules.categoryGlobs, 0);
+        }
+
+        private static Pattern compileGlobs(List<String> globs, int flags) {
+            if (globs.isEmpty()) {
+                return Pattern.compile("(?!)");
+            }
+            return Pattern.compile(globs.stream()
+                    .map(glob -> Arrays.stream(glob.split("\\*", -1))
+                            .map(part -> part.isEmpty() ? "" : Pattern.quote(part))
+                            .collect(Collectors.joining(".*", "(?:", ")")))
+                    .collect(Collectors.joining("|")), flags);
+        }
+    }
+
+    @Override
+    public Rules getState() {
+        return rules;
+    }
+
+    @Override
+    public void loadState(@NotNull Rules rules) {
+        this.rules = rules;
+        this.compiledRules = new CompiledRules(rules);
+        rulesModificationTracker.incModificationCount();
+    }
+
+    public ModificationTracker getRulesModificationTracker() {
+        return rulesModificationTracker;
+    }
+
+    public boolean isIntegrationTestElement(PsiElement element) {
+        PsiFile file = element.getContainingFile();
+        if (element instanceof PsiMethod || element instanceof PsiClass) {
+            return (file != null && isIntegrationTestFile(file)) || hasIntegrationTag((PsiModifierListOwner) element);
+        }
+        if (!(file instanceof PsiJavaFile)) {
+            return true;
+        }
+        return isIntegrationTestFile(file) || Arrays.stream(((PsiJavaFile) file).getClasses()).anyMatch(this::hasIntegrationTag);
+    }
+
+    public boolean isIntegrationTestFile(PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, INTEGRATION_TEST_FILE_KEY, () -> CachedValueProvider.Result.create(
+                classifyFile(file),
+                PsiModificationTracker.MODIFICATION_COUNT,
+                ProjectRootManager.getInstance(project),
+                rulesModificationTracker
+        ));
+    }
+
+    public boolean isIntegrationTestModule(Module module) {
+        return CachedValuesManager.getManager(project).getCachedValue(module, INTEGRATION_TEST_MODULE_KEY, () -> CachedValueProvider.Result.create(
+                compiledRules.modulePattern.matcher(module.getName()).matches(),
+                ProjectRootManager.getInstance(project),
+                rulesModificationTracker
+        ), false);
+    }
+
+    public boolean hasIntegrationTag(PsiModifierListOwner owner) {
+        return CachedValuesManager.getCachedValue(owner, INTEGRATION_TAG_KEY, () -> CachedValueProvider.Result.create(
+                owner.getModifierList() != null && Arrays.stream(owner.getModifierList().getAnnotations()).anyMatch(this::isIntegrationTag),
+                PsiModificationTracker.MODIFICATION_COUNT,
+                rulesModificationTracker
+        ));
+    }
+
+    private boolean classifyFile(PsiFile file) {
+        CompiledRules currentRules = compiledRules;
+        if (currentRules.fileNamePattern.matcher(file.getName()).matches()) {
+            return true;
+        }
+        if (file instanceof PsiJavaFile && currentRules.packagePattern.matcher(((PsiJavaFile) file).getPackageName()).matches()) {
+            return true;
+        }
+        VirtualFile virtualFile = file.getVirtualFile();
+        return virtualFile != null && Optional.ofNullable(ProjectRootManager.getInstance(project).getFileIndex().getModuleForFile(virtualFile))
+                .map(this::isIntegrationTestModule)
+                .orElse(false);
+    }
+
+    private boolean isIntegrationTag(PsiAnnotation psiAnnotation) {
+        CompiledRules currentRules = compiledRules;
+        if (psiAnnotation.hasQualifiedName(TAG_ANNOTATION_QUALIFIED_NAME)) {
+            return psiAnnotation.getAttributes().stream()
+                    .filter(attribute -> "value".equals(attribute.getAttributeName()))
+                    .map(attribute -> getConstantString(attribute.getAttributeValue()))
+                    .anyMatch(tag -> tag.isPresent() && currentRules.tagPattern.matcher(tag.get()).matches());
+        }
+        if (psiAnnotation.hasQualifiedName(CATEGORY_ANNOTATION_QUALIFIED_NAME)) {
+            return psiAnnotation.getAttributes().stream()
+                    .map(attribute -> Optional.ofNullable(attribute.getAttributeValue())
+                            .filter(attributeValue -> attributeValue instanceof JvmAnnotationClassValue)
+                            .map(attributeValue -> ((JvmAnnotationClassValue) attributeValue).getClazz()))
+                    .anyMatch(clazz -> clazz.isPresent() && currentRules.categoryPattern.matcher(clazz.get().getName()).matches());
+        }
+        return false;
+    }
+
+    private Optional<String> getConstantString(JvmAnnotationAttributeValue attributeValue) {
+        return Optional.ofNullable(attributeValue)
+                .filter(value -> value instanceof JvmAnnotationConstantValue)
+                .map(value -> ((JvmAnnotationConstantValue) value).getConstantValue())
+                .filter(constantValue -> constantValue instanceof String)
+                .map(constantValue -> (String) constantValue);
+    }
+}
@@ -6,38 +6,88 @@ import com.testspector.model.checking.factory.BestPracticeCheckingStrategyFactor
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.HelperMethodSummaryEngine;
 import com.testspector.model.checking.java.junit.strategy.*;
 import com.testspector.model.enums.BestPractice;
+import com.testspector.model.enums.ProgrammingLanguage;
+import com.testspector.model.enums.UnitTestFramework;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class JUnitBestPracticeCheckingStrategyFactory implements BestPracticeCheckingStrategyFactory {
     JavaContextIndicator contextIndicator = new JavaContextIndicator();
-    ElementSearchEngine elementSearchEngine = new ElementSearchEngine();
-    JavaMethodResolver methodResolver = new JavaMethodResolver(elementSearchEngine, contextIndicator);
-
-    List<BestPracticeCheckingStrategy<PsiElement>> allStrategies = Arrays.asList(
-            new JUnitTestMethodBestPracticeCheckingStrategyAdapter(new AtLeastOneAssertionJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver), methodResolver),
-            new JUnitTestMethodBestPracticeCheckingStrategyAdapter(new OnlyOneAssertionJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver), methodResolver),
-            new JUnitTestMethodBestPracticeCheckingStrategyAdapter(new CatchExceptionsWithFrameworkToolsJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver), methodResolver),
-            new JUnitTestMethodBestPracticeCheckingStrategyAdapter(new NoConditionalLogicJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver), methodResolver),
-            new JUnitTestMethodBestPracticeCheckingStrategyAdapter(new NoGlobalStaticPropertiesJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver), methodResolver),
-            new JUnitTestMethodBestPracticeCheckingStrategyAdapter(new SetupTestNamingStrategyJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver), methodResolver),
-            new JUnitTestMethodBestPracticeCheckingStrategyAdapter(new TestOnlyPublicBehaviourJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver), methodResolver)
+    ElementSearchEngine elementSearchEngine = new ElementSearchEngine(contextIndicator);
+    JavaMethodResolver methodResolver = elementSearchEngine.getSearchContext().getMethodResolver();
+    HelperMethodSummaryEngine summaryEngine = elementSearchEngine.getSearchContext().getSummaryEngine();
+
+    List<JUnitBestPracticeCheckingStrategy> testMethodStrategies = Arrays.asList(
+            new AtLeastOneAssertionJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver),
+            new OnlyOneAssertionJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver),
+            new CatchExceptionsWithFrameworkToolsJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver),
+            new NoConditionalLogicJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver),
+            new NoGlobalStaticPropertiesJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver),
+            new SetupTestNamingStrategyJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver),
+            new TestOnlyPublicBehaviourJUnitCheckingStrategy(elementSearchEngine, contextIndicator, methodResolver)
     );
+    List<BestPracticeCheckingStrategy<PsiElement>> allStrategies = testMethodStrategies.stream()
+            .<BestPracticeCheckingStrategy<PsiElement>>map(strategy -> new JUnitTestMethodBestPracticeCheckingStrategyAdapter(strategy, methodResolver, elementSearchEngine, summaryEngine))
+            .collect(Collectors.toList());
+
+    BestPracticeCheckingStrategy<PsiElement> allStrategiesGroup = new JUnitGroupBestPracticeCheckingStrategy(allStrategies);
+
+    Map<BestPractice, BestPracticeCheckingStrategy<PsiElement>> strategiesByBestPractice = createStrategiesByBestPractice();
+
+    Map<Set<BestPractice>, Optional<BestPracticeCheckingStrategy<PsiElement>>> strategiesByBestPractices = new ConcurrentHashMap<>();
+
+    @Override
+    public ProgrammingLanguage getProgrammingLanguage() {
+        return ProgrammingLanguage.JAVA;
+    }
+
+    @Override
+    public UnitTestFramework getUnitTestFramework() {
+        return UnitTestFramework.JUNIT;
+    }
 
     @Override
     public BestPracticeCheckingStrategy<PsiElement> getBestPracticeCheckingStrategy() {
-        return new JUnitGroupBestPracticeCheckingStrategy(allStrategies);
+        return allStrategiesGroup;
     }
 
     @Override
     public BestPracticeCheckingStrategy<PsiElement> getBestPracticeCheckingStrategy(BestPractice bestPractice) {
+        return strategiesByBestPractice.get(bestPractice);
+    }
+
+    @Override
+    public BestPracticeCheckingStrategy<PsiElement> getBestPracticeCheckingStrategy(Set<BestPractice> bestPractices) {
+        if (bestPractices.size() == 1) {
+            return getBestPracticeCheckingStrategy(bestPractices.iterator().next());
+        }
+        Optional<BestPracticeCheckingStrategy<PsiElement>> strategy = strategiesByBestPractices.get(bestPractices);
+        if (strategy == null) {
+            strategy = strategiesByBestPractices.computeIfAbsent(
+                    bestPractices.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(bestPractices),
+                    key -> Optional.ofNullable(createGroup(key)));
+        }
+        return strategy.orElse(null);
+    }
+
+    private Map<BestPractice, BestPracticeCheckingStrategy<PsiElement>> createStrategiesByBestPractice() {
+        Map<BestPractice, BestPracticeCheckingStrategy<PsiElement>> strategies = new EnumMap<>(BestPractice.class);
+        for (BestPractice bestPractice : BestPractice.values()) {
+            Optional.ofNullable(createGroup(Collections.singleton(bestPractice)))
+                    .ifPresent(strategy -> strategies.put(bestPractice, strategy));
+        }
+        return strategies;
+    }
+
+    private BestPracticeCheckingStrategy<PsiElement> createGroup(Set<BestPractice> bestPractices) {
         List<BestPracticeCheckingStrategy<PsiElement>> strategiesForBestPractice = allStrategies
                 .stream()
-                .filter(strategy -> strategy.getCheckedBestPractice().contains(bestPractice))
+                .filter(strategy -> strategy.getCheckedBestPractice().stream().anyMatch(bestPractices::contains))
                 .collect(Collectors.toList());
         if (strategiesForBestPractice.size() > 0) {
             return new JUnitGroupBestPracticeCheckingStrategy(strategiesForBestPractice);
@@ -16,6 +16,7 @@ public final class JUnitConstants {
     public static final String JUNIT5_ASSERTIONS_CLASS_PATH = "org.junit.jupiter.api.Assertions";
     public static final String JUNIT4_ASSERTIONS_CLASS_PATH = "org.junit.Assert";
     public static final String HAMCREST_ASSERTIONS_CLASS_PATH = "org.hamcrest.MatcherAssert";
+    public static final String ASSERTJ_ASSERTIONS_CLASS_PATH = "org.assertj.core.api.Assertions";
     public static final String JUNIT4_TEST_QUALIFIED_NAME =  "org.junit.Test";
     public static final List<String> JUNIT4_TEST_QUALIFIED_NAMES = Collections.singletonList(
            JUNIT4_TEST_QUALIFIED_NAME
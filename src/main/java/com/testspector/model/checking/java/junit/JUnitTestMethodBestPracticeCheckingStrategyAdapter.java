@@ -1,13 +1,20 @@
 package com.testspector.model.checking.java.junit;
 
-import com.intellij.lang.jvm.annotation.JvmAnnotationClassValue;
-import com.intellij.lang.jvm.annotation.JvmAnnotationConstantValue;
-import com.intellij.openapi.module.Module;
-import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.*;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.testspector.model.checking.BestPracticeCheckingStrategy;
 import com.testspector.model.checking.BestPracticeViolation;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.JavaTokenSummary;
+import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
+import com.testspector.model.checking.java.common.search.HelperMethodSummaryEngine;
+import com.testspector.model.checking.java.junit.strategy.JUnitBestPracticeCheckingStrategy;
 import com.testspector.model.enums.BestPractice;
 
 import java.util.*;
@@ -15,13 +22,21 @@ import java.util.stream.Collectors;
 
 public class JUnitTestMethodBestPracticeCheckingStrategyAdapter implements BestPracticeCheckingStrategy<PsiElement> {
 
+    private static final Key<CachedValue<List<PsiMethod>>> TEST_METHODS_KEY = Key.create("testspector.junitTestMethods");
 
-    private final BestPracticeCheckingStrategy<PsiMethod> decoratedMethodSpecificStrategy;
+    private final JUnitBestPracticeCheckingStrategy decoratedMethodSpecificStrategy;
     private final JavaMethodResolver methodResolver;
+    private final ElementSearchEngine elementSearchEngine;
+    private final HelperMethodSummaryEngine summaryEngine;
 
-    public JUnitTestMethodBestPracticeCheckingStrategyAdapter(BestPracticeCheckingStrategy<PsiMethod> decoratedMethodSpecificStrategy, JavaMethodResolver methodResolver) {
+    public JUnitTestMethodBestPracticeCheckingStrategyAdapter(JUnitBestPracticeCheckingStrategy decoratedMethodSpecificStrategy,
+                                                              JavaMethodResolver methodResolver,
+                                                              ElementSearchEngine elementSearchEngine,
+                                                              HelperMethodSummaryEngine summaryEngine) {
         this.decoratedMethodSpecificStrategy = decoratedMethodSpecificStrategy;
         this.methodResolver = methodResolver;
+        this.elementSearchEngine = elementSearchEngine;
+        this.summaryEngine = summaryEngine;
     }
 
 
@@ -32,13 +47,56 @@ public class JUnitTestMethodBestPracticeCheckingStrategyAdapter implements BestP
 
     @Override
     public List<BestPracticeViolation> checkBestPractices(List<PsiElement> psiElements) {
-        psiElements = filterOutElementsRelatedToIntegrationTests(psiElements);
-        List<PsiMethod> methods = methodResolver.getMethodsWithAnnotations(psiElements, JUnitConstants.JUNIT_ALL_TEST_QUALIFIED_NAMES)
-                .stream()
-                .filter(method -> Arrays.stream(method.getAnnotations()).noneMatch(this::isIntegrationTag))
+        List<PsiElement> unitTestElements = filterOutElementsRelatedToIntegrationTests(psiElements);
+        if (unitTestElements.stream().allMatch(element -> element instanceof PsiFile && !canViolateBestPractice(element))) {
+            return new ArrayList<>();
+        }
+        List<PsiMethod> methods;
+        if (unitTestElements.size() == 1 && unitTestElements.get(0) instanceof PsiFile) {
+            PsiFile file = (PsiFile) unitTestElements.get(0);
+            methods = CachedValuesManager.getCachedValue(file, TEST_METHODS_KEY, () ->
+                    CachedValueProvider.Result.create(
+                            findTestMethods(unitTestElements),
+                            PsiModificationTracker.MODIFICATION_COUNT,
+                            getIntegrationTestClassifier(file).getRulesModificationTracker()));
+        } else {
+            methods = findTestMethods(unitTestElements);
+        }
+        List<PsiMethod> checkedMethods = methods.stream()
+                .filter(method -> decoratedMethodSpecificStrategy.canViolateBestPractice(method) && canViolateBestPractice(method))
                 .collect(Collectors.toList());
+        if (checkedMethods.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<ElementSearchQuery<?>> testMethodQueries = decoratedMethodSpecificStrategy.getTestMethodQueries();
+        if (!testMethodQueries.isEmpty()) {
+            checkedMethods.forEach(method -> elementSearchEngine.findByQueries(method, testMethodQueries));
+        }
+
+        return decoratedMethodSpecificStrategy.checkBestPractices(checkedMethods);
+    }
 
-        return decoratedMethodSpecificStrategy.checkBestPractices(methods);
+    private boolean canViolateBestPractice(PsiElement element) {
+        TokenSet requiredTokens = decoratedMethodSpecificStrategy.getRequiredTokens();
+        if (requiredTokens.getTypes().length == 0 || JavaTokenSummary.containsAnyOf(element, requiredTokens)) {
+            return true;
+        }
+        List<ElementSearchQuery<?>> strategyQueries = decoratedMethodSpecificStrategy.getTestMethodQueries();
+        if (strategyQueries.stream().anyMatch(query -> !query.getRequiredFact().isPresent())) {
+            return true;
+        }
+        return strategyQueries.stream()
+                .map(query -> query.getRequiredFact().get())
+                .anyMatch(fact -> summaryEngine.callsHelperWithFact(element, fact));
+    }
+
+    private List<PsiMethod> findTestMethods(List<PsiElement> unitTestElements) {
+        return Collections.unmodifiableList(methodResolver.getMethodsWithAnnotations(
+                unitTestElements,
+                JUnitConstants.JUNIT_ALL_TEST_QUALIFIED_NAMES)
+                .stream()
+                .filter(method -> !getIntegrationTestClassifier(method).hasIntegrationTag(method))
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -48,60 +106,12 @@ public class JUnitTestMethodBestPracticeCheckingStrategyAdapter implements BestP
 
     private List<PsiElement> filterOutElementsRelatedToIntegrationTests(List<PsiElement> psiElements) {
         return psiElements.stream()
-                .filter(element -> {
-                    if (element instanceof PsiMethod) {
-                        PsiMethod method = (PsiMethod) element;
-                        return Arrays.stream(method.getAnnotations()).noneMatch(this::isIntegrationTag) && isNotIntegrationTest((PsiJavaFile) element.getContainingFile());
-                    }
-                    if (!(element instanceof PsiClass)) {
-                        PsiFile file = element.getContainingFile();
-                        if (file instanceof PsiJavaFile) {
-                            return Arrays.stream(((PsiJavaFile) file).getClasses()).map(psiClass -> Arrays.asList(psiClass.getAnnotations())).flatMap(Collection::stream).noneMatch(this::isIntegrationTag)
-                                    && isNotIntegrationTest((PsiJavaFile) file);
-                        } else {
-                            return false;
-                        }
-                    } else {
-                        return Arrays.stream(((PsiClass) element).getAnnotations()).noneMatch(this::isIntegrationTag) &&
-                                isNotIntegrationTest((PsiJavaFile) element.getContainingFile());
-                    }
-                }).collect(Collectors.toList());
-    }
-
-    private boolean isNotIntegrationTest(PsiJavaFile file) {
-
-        return !file.getName().matches(".*IT\\.java") &&
-                !"it".equalsIgnoreCase(file.getPackageName()) &&
-                !file.getPackageName().matches("(it\\..*)") &&
-                !file.getPackageName().matches("(.*\\.it\\..*)") &&
-                !file.getPackageName().matches("(.*\\.it)") &&
-                !Optional.ofNullable(ProjectRootManager.getInstance(file.getProject()).getFileIndex().getModuleForFile(file.getVirtualFile()))
-                        .map(Module::getName)
-                        .map(name -> name.split("_")[0])
-                        .map(val -> "it".equalsIgnoreCase(val) || val.contains("integration"))
-                        .orElse(false);
-
+                .filter(element -> !getIntegrationTestClassifier(element).isIntegrationTestElement(element))
+                .collect(Collectors.toList());
     }
 
-    private boolean isIntegrationTag(PsiAnnotation psiAnnotation) {
-        return (psiAnnotation.hasQualifiedName("org.junit.jupiter.api.Tag") &&
-                psiAnnotation.getAttributes().stream()
-                        .anyMatch(attribute -> "value".equals(attribute.getAttributeName()) &&
-                                Optional.ofNullable(attribute.getAttributeValue())
-                                        .filter(attributeValue -> attributeValue instanceof JvmAnnotationConstantValue && ((JvmAnnotationConstantValue) attributeValue).getConstantValue() instanceof String)
-                                        .map(attributeValue -> ((JvmAnnotationConstantValue) attributeValue))
-                                        .map(jvmAnnotationConstantValue -> (String) jvmAnnotationConstantValue.getConstantValue())
-                                        .map(constantValue -> constantValue.toLowerCase().contains("integration") || constantValue.matches(".*IT.*"))
-                                        .orElse(false)
-                        )) ||
-                (psiAnnotation.hasQualifiedName("org.junit.experimental.categories.Category") &&
-                        psiAnnotation.getAttributes().stream()
-                                .anyMatch(jvmAnnotationAttribute -> (Optional.ofNullable(jvmAnnotationAttribute.getAttributeValue())
-                                        .filter(attribute -> attribute instanceof JvmAnnotationClassValue)
-                                        .map(attribute -> ((JvmAnnotationClassValue) attribute).getClazz())
-                                        .map(clazz -> clazz.getName().toLowerCase())
-                                        .map(name -> name.contains("integration"))
-                                        .orElse(false))));
+    private IntegrationTestClassifier getIntegrationTestClassifier(PsiElement element) {
+        return element.getProject().getService(IntegrationTestClassifier.class);
     }
 
 }
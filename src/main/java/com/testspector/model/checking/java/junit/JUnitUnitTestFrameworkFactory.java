@@ -1,41 +1,61 @@
 package com.testspector.model.checking.java.junit;
 
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
-import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.impl.java.stubs.index.JavaAnnotationIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.testspector.model.checking.factory.UnitTestFrameworkFactory;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
+import com.testspector.model.checking.java.common.TestEntryPointIndex;
+import com.testspector.model.enums.ProgrammingLanguage;
 import com.testspector.model.enums.UnitTestFramework;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.testspector.model.checking.java.junit.JUnitConstants.JUNIT_ALL_PACKAGES_QUALIFIED_NAMES;
 import static com.testspector.model.checking.java.junit.JUnitConstants.JUNIT_ALL_TEST_QUALIFIED_NAMES;
 
 public class JUnitUnitTestFrameworkFactory implements UnitTestFrameworkFactory {
 
+    private static final Key<CachedValue<Boolean>> JUNIT_FILE_KEY = Key.create("testspector.junitFile");
+
+    private static final Set<String> JUNIT_TEST_ANNOTATION_SHORT_NAMES = JUNIT_ALL_TEST_QUALIFIED_NAMES
+            .stream()
+            .map(StringUtil::getShortName)
+            .collect(Collectors.toSet());
 
     private final JavaContextIndicator contextIndicator;
 
+    public JUnitUnitTestFrameworkFactory() {
+        this(new JavaContextIndicator());
+    }
+
     public JUnitUnitTestFrameworkFactory(JavaContextIndicator javaContextIndicator) {
         this.contextIndicator = javaContextIndicator;
     }
 
+    @Override
+    public ProgrammingLanguage getProgrammingLanguage() {
+        return ProgrammingLanguage.JAVA;
+    }
+
     @Override
     public Optional<UnitTestFramework> getUnitTestFramework(PsiElement psiElement) {
         boolean resolved = false;
         if (contextIndicator.isInTestContext().test(psiElement)) {
             if (psiElement instanceof PsiJavaFile) {
-                PsiJavaFile javaFile = (PsiJavaFile) psiElement;
-                resolved = containsJUnitImportStatements(javaFile) || containsJUnitTests(javaFile);
+                resolved = isJUnitAvailable(psiElement) && isJUnitFile((PsiJavaFile) psiElement);
             } else if (psiElement instanceof PsiClass && psiElement.getContainingFile() instanceof PsiJavaFile) {
-                PsiJavaFile javaFile = (PsiJavaFile) psiElement.getContainingFile();
-                resolved = containsJUnitImportStatements(javaFile) || containsJUnitTests(javaFile);
+                resolved = isJUnitAvailable(psiElement) && isJUnitFile((PsiJavaFile) psiElement.getContainingFile());
             } else if (psiElement instanceof PsiMethod) {
-                resolved = isJUnitTestMethod(new HashSet<>(), (PsiMethod) psiElement);
+                resolved = isJUnitAvailable(psiElement) && isJUnitTestMethod(new HashSet<>(), (PsiMethod) psiElement);
             }
             if (resolved) {
                 return Optional.of(UnitTestFramework.JUNIT);
@@ -44,33 +64,53 @@ public class JUnitUnitTestFrameworkFactory implements UnitTestFrameworkFactory {
         return Optional.empty();
     }
 
+    private boolean isJUnitAvailable(PsiElement psiElement) {
+        return TestLibraryProfile.findInstance(psiElement)
+                .map(profile -> profile.isJUnit4Available() || profile.isJUnit5Available())
+                .orElse(true);
+    }
+
+    private boolean isJUnitFile(PsiJavaFile javaFile) {
+        return CachedValuesManager.getCachedValue(javaFile, JUNIT_FILE_KEY, () -> CachedValueProvider.Result.create(
+                containsJUnitImportStatements(javaFile) || containsJUnitTestAnnotations(javaFile),
+                javaFile
+        ));
+    }
+
     private boolean containsJUnitImportStatements(PsiJavaFile javaFile) {
-        Optional<PsiElement> optionalPsiElement = Optional.ofNullable(javaFile.getImportList());
-        if (optionalPsiElement.isPresent()) {
-            PsiImportList psiImportList = (PsiImportList) optionalPsiElement.get();
-            return Arrays.stream(psiImportList.getImportStatements())
-                    .anyMatch(psiImportStatement -> JUNIT_ALL_PACKAGES_QUALIFIED_NAMES
-                            .stream()
-                            .anyMatch(junitPackageName -> psiImportStatement.getQualifiedName() != null &&
-                                    psiImportStatement.getQualifiedName().startsWith(junitPackageName))
-                    );
+        PsiImportList psiImportList = javaFile.getImportList();
+        if (psiImportList != null) {
+            for (PsiImportStatementBase psiImportStatement : psiImportList.getAllImportStatements()) {
+                PsiJavaCodeReferenceElement importReference = psiImportStatement.getImportReference();
+                String qualifiedName = importReference != null ? importReference.getQualifiedName() : null;
+                if (qualifiedName != null && JUNIT_ALL_PACKAGES_QUALIFIED_NAMES.stream().anyMatch(qualifiedName::startsWith)) {
+                    return true;
+                }
+            }
         }
         return false;
     }
 
-    private boolean containsJUnitTests(PsiJavaFile javaFile) {
-        return Arrays.stream(javaFile.getClasses())
-                .map(PsiClass::getMethods)
-                .flatMap(Arrays::stream)
-                .filter(contextIndicator.isInTestContext())
-                .anyMatch(method -> isJUnitTestMethod(new HashSet<>(), method));
+    private boolean containsJUnitTestAnnotations(PsiJavaFile javaFile) {
+        Collection<PsiAnnotation> annotations;
+        if (javaFile.isPhysical() && javaFile.getVirtualFile() != null && !DumbService.isDumb(javaFile.getProject())) {
+            GlobalSearchScope fileScope = GlobalSearchScope.fileScope(javaFile);
+            annotations = new ArrayList<>();
+            for (String shortName : JUNIT_TEST_ANNOTATION_SHORT_NAMES) {
+                annotations.addAll(JavaAnnotationIndex.getInstance().get(shortName, javaFile.getProject(), fileScope));
+            }
+        } else {
+            annotations = PsiTreeUtil.findChildrenOfType(javaFile, PsiAnnotation.class);
+        }
+        return annotations.stream()
+                .anyMatch(annotation -> JUNIT_ALL_TEST_QUALIFIED_NAMES.stream().anyMatch(annotation::hasQualifiedName));
     }
 
     private boolean isJUnitTestMethod(HashSet<PsiMethod> visitedMethods, PsiMethod psiMethod) {
         visitedMethods.add(psiMethod);
         return methodHasAnyOfAnnotations(psiMethod, JUNIT_ALL_TEST_QUALIFIED_NAMES) ||
-                ReferencesSearch.search(psiMethod).findAll().stream().map(reference -> PsiTreeUtil.getParentOfType(reference.getElement(), PsiMethod.class))
-                        .filter(method -> method != null && !visitedMethods.contains(method) && method != psiMethod)
+                psiMethod.getProject().getService(TestEntryPointIndex.class).getCallingMethods(psiMethod).stream()
+                        .filter(method -> !visitedMethods.contains(method))
                         .anyMatch(method -> isJUnitTestMethod(visitedMethods, method));
 
     }
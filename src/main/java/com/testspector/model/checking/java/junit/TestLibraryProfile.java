@@ -0,0 +1,135 @@
+package com.testspector.model.checking.java.junit;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.testspector.model.checking.java.junit.JUnitConstants.*;
+
+public class TestLibraryProfile {
+
+    public static final TestLibraryProfile EMPTY = new TestLibraryProfile(null, null, null, null, false, false, false, false);
+
+    private static final Key<CachedValue<TestLibraryProfile>> TEST_LIBRARY_PROFILE_KEY = Key.create("testspector.testLibraryProfile");
+
+    private static final Pattern JAR_VERSION_PATTERN = Pattern.compile("-(\\d[\\w.\\-]*)\\.jar$");
+
+    private final String junit4Version;
+    private final String junit5Version;
+    private final String hamcrestVersion;
+    private final String assertJVersion;
+    private final boolean junit4Available;
+    private final boolean junit5Available;
+    private final boolean hamcrestAvailable;
+    private final boolean assertJAvailable;
+
+    private TestLibraryProfile(String junit4Version, String junit5Version, String hamcrestVersion, String assertJVersion,
+                               boolean junit4Available, boolean junit5Available, boolean hamcrestAvailable, boolean assertJAvailable) {
+        this.junit4Version = junit4Version;
+        this.junit5Version = junit5Version;
+        this.hamcrestVersion = hamcrestVersion;
+        this.assertJVersion = assertJVersion;
+        this.junit4Available = junit4Available;
+        this.junit5Available = junit5Available;
+        this.hamcrestAvailable = hamcrestAvailable;
+        this.assertJAvailable = assertJAvailable;
+    }
+
+    public static TestLibraryProfile getInstance(PsiElement element) {
+        return findInstance(element).orElse(EMPTY);
+    }
+
+    public static Optional<TestLibraryProfile> findInstance(PsiElement element) {
+        PsiFile file = element.getContainingFile();
+        if (file == null || file.getVirtualFile() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ProjectRootManager.getInstance(element.getProject()).getFileIndex().getModuleForFile(file.getVirtualFile()))
+                .map(TestLibraryProfile::getInstance);
+    }
+
+    public static TestLibraryProfile getInstance(Module module) {
+        return CachedValuesManager.getManager(module.getProject()).getCachedValue(module, TEST_LIBRARY_PROFILE_KEY, () ->
+                CachedValueProvider.Result.create(
+                        createProfile(module),
+                        ProjectRootManager.getInstance(module.getProject())
+                ), false);
+    }
+
+    private static TestLibraryProfile createProfile(Module module) {
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(module.getProject());
+        GlobalSearchScope scope = GlobalSearchScope.moduleWithLibrariesScope(module);
+        PsiClass junit4Class = javaPsiFacade.findClass(JUNIT4_ASSERTIONS_CLASS_PATH, scope);
+        PsiClass junit5Class = javaPsiFacade.findClass(JUNIT5_ASSERTIONS_CLASS_PATH, scope);
+        PsiClass hamcrestClass = javaPsiFacade.findClass(HAMCREST_ASSERTIONS_CLASS_PATH, scope);
+        PsiClass assertJClass = javaPsiFacade.findClass(ASSERTJ_ASSERTIONS_CLASS_PATH, scope);
+        return new TestLibraryProfile(
+                getVersion(junit4Class),
+                getVersion(junit5Class),
+                getVersion(hamcrestClass),
+                getVersion(assertJClass),
+                junit4Class != null,
+                junit5Class != null,
+                hamcrestClass != null,
+                assertJClass != null
+        );
+    }
+
+    private static String getVersion(PsiClass psiClass) {
+        if (psiClass == null || psiClass.getContainingFile() == null) {
+            return null;
+        }
+        VirtualFile jarFile = JarFileSystem.getInstance().getVirtualFileForJar(psiClass.getContainingFile().getVirtualFile());
+        if (jarFile == null) {
+            return null;
+        }
+        Matcher matcher = JAR_VERSION_PATTERN.matcher(jarFile.getName());
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    public boolean isJUnit4Available() {
+        return junit4Available;
+    }
+
+    public boolean isJUnit5Available() {
+        return junit5Available;
+    }
+
+    public boolean isHamcrestAvailable() {
+        return hamcrestAvailable;
+    }
+
+    public boolean isAssertJAvailable() {
+        return assertJAvailable;
+    }
+
+    public Optional<String> getJUnit4Version() {
+        return Optional.ofNullable(junit4Version);
+    }
+
+    public Optional<String> getJUnit5Version() {
+        return Optional.ofNullable(junit5Version);
+    }
+
+    public Optional<String> getHamcrestVersion() {
+        return Optional.ofNullable(hamcrestVersion);
+    }
+
+    public Optional<String> getAssertJVersion() {
+        return Optional.ofNullable(assertJVersion);
+    }
+}
@@ -7,9 +7,12 @@ import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTypesUtil;
 import com.testspector.model.checking.BestPracticeCheckingStrategy;
+import com.testspector.model.checking.java.common.ElementRangeIndex;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.ResolutionCache;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
 import com.testspector.model.checking.java.common.search.QueriesRepository;
 import com.testspector.model.checking.java.junit.JUnitConstants;
@@ -17,9 +20,11 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static com.testspector.model.checking.java.junit.JUnitConstants.ASSERT_ALL_METHOD_NAME;
 import static com.testspector.model.checking.java.junit.JUnitConstants.JUNIT5_ASSERTIONS_CLASS_PATH;
@@ -31,24 +36,20 @@ public abstract class AssertionCountJUnitCheckingStrategy extends JUnitBestPract
         super(elementSearchEngine, contextIndicator, methodResolver);
     }
 
+    @Override
+    public List<ElementSearchQuery<?>> getTestMethodQueries() {
+        return Collections.singletonList(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS);
+    }
+
     protected ElementSearchResult<PsiMethodCallExpression> removeGroupedAssertions(ElementSearchResult<PsiMethodCallExpression> allAssertionsSearch) {
-        List<PsiMethodCallExpression> allElementsOfTheCurrentLevel = new ArrayList<>(allAssertionsSearch.getElementsOfCurrentLevel());
-        List<PsiMethodCallExpression> toRemove = new ArrayList<>();
-
-        for (PsiMethodCallExpression assertion : allAssertionsSearch.getElementsOfCurrentLevel()) {
-            if (Optional.ofNullable(assertion.resolveMethod())
-                    .filter(method ->
-                            ASSERT_ALL_METHOD_NAME.equals(method.getName()) &&
-                                    Optional.ofNullable(method.getContainingClass())
-                                            .map(PsiClass::getQualifiedName)
-                                            .stream()
-                                            .anyMatch(name -> name.equals(JUNIT5_ASSERTIONS_CLASS_PATH)))
-                    .isPresent()) {
-                toRemove.addAll(elementSearchEngine.findByQuery(assertion, QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)
-                        .getElementsOfCurrentLevel());
-            }
-        }
-        allElementsOfTheCurrentLevel.removeAll(toRemove);
+        ElementRangeIndex groupingAssertionsIndex = ElementRangeIndex.of(allAssertionsSearch.getElementsOfCurrentLevel()
+                .stream()
+                .filter(this::isGroupingAssertion)
+                .collect(Collectors.toList()));
+        List<PsiMethodCallExpression> allElementsOfTheCurrentLevel = allAssertionsSearch.getElementsOfCurrentLevel()
+                .stream()
+                .filter(assertion -> !groupingAssertionsIndex.isNestedInAny(assertion))
+                .collect(Collectors.toList());
         List<Pair<PsiReferenceExpression, ElementSearchResult<PsiMethodCallExpression>>> referencedElements = new ArrayList<>();
         for (Pair<PsiReferenceExpression, ElementSearchResult<PsiMethodCallExpression>> referencedResult : allAssertionsSearch.getReferencedResults()) {
             ElementSearchResult<PsiMethodCallExpression> newReferencedResult = removeGroupedAssertions(referencedResult.getRight());
@@ -57,4 +58,15 @@ public abstract class AssertionCountJUnitCheckingStrategy extends JUnitBestPract
         return new ElementSearchResult<>(referencedElements, allElementsOfTheCurrentLevel);
     }
 
+    private boolean isGroupingAssertion(PsiMethodCallExpression assertion) {
+        return Optional.ofNullable(ResolutionCache.resolveMethod(assertion))
+                .filter(method ->
+                        ASSERT_ALL_METHOD_NAME.equals(method.getName()) &&
+                                Optional.ofNullable(method.getContainingClass())
+                                        .map(PsiClass::getQualifiedName)
+                                        .stream()
+                                        .anyMatch(name -> name.equals(JUNIT5_ASSERTIONS_CLASS_PATH)))
+                .isPresent();
+    }
+
 }
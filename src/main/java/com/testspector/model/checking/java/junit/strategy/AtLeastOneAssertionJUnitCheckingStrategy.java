@@ -3,12 +3,11 @@ package com.testspector.model.checking.java.junit.strategy;
 import com.intellij.lang.jvm.annotation.JvmAnnotationClassValue;
 import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiMethodCallExpression;
 import com.testspector.model.checking.BestPracticeViolation;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
-import com.testspector.model.checking.java.common.search.ElementSearchResult;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.common.search.QueriesRepository;
 import com.testspector.model.checking.java.junit.JUnitConstants;
 import com.testspector.model.enums.BestPractice;
@@ -32,10 +31,10 @@ public class AtLeastOneAssertionJUnitCheckingStrategy extends AssertionCountJUni
     public List<BestPracticeViolation> checkBestPractices(List<PsiMethod> methods) {
         List<BestPracticeViolation> bestPracticeViolations = new ArrayList<>();
         for (PsiMethod testMethod : methods) {
-            ElementSearchResult<PsiMethodCallExpression> allAssertionMethodsResult = elementSearchEngine
-                    .findByQuery(testMethod, QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS);
+            boolean containsAssertion = elementSearchEngine
+                    .exists(testMethod, QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS);
             PsiIdentifier methodIdentifier = testMethod.getNameIdentifier();
-            if (allAssertionMethodsResult.getElementsFromAllLevels().isEmpty() && !isJUnit4ExpectedTest(testMethod)) {
+            if (!containsAssertion && !isJUnit4ExpectedTest(testMethod)) {
                 bestPracticeViolations.add(createAtLeastOneAssertionBestPracticeViolation(
                         methodIdentifier));
             }
@@ -43,6 +42,11 @@ public class AtLeastOneAssertionJUnitCheckingStrategy extends AssertionCountJUni
         return bestPracticeViolations;
     }
 
+    @Override
+    public List<ElementSearchQuery<?>> getTestMethodQueries() {
+        return Collections.emptyList();
+    }
+
     @Override
     public List<BestPractice> getCheckedBestPractice() {
         return Collections.singletonList(BestPractice.AT_LEAST_ONE_ASSERTION);
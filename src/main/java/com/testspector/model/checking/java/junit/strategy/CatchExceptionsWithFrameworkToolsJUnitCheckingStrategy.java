@@ -1,11 +1,15 @@
 package com.testspector.model.checking.java.junit.strategy;
 
 import com.intellij.psi.*;
+import com.intellij.psi.tree.TokenSet;
 import com.testspector.model.checking.Action;
 import com.testspector.model.checking.BestPracticeViolation;
+import com.testspector.model.checking.java.common.ExceptionTypeHierarchy;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.ResolutionCache;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
 import com.testspector.model.checking.java.common.search.QueriesRepository;
 import com.testspector.model.checking.java.junit.strategy.action.*;
@@ -16,6 +20,8 @@ import java.util.stream.Collectors;
 
 public class CatchExceptionsWithFrameworkToolsJUnitCheckingStrategy extends JUnitBestPracticeCheckingStrategy {
 
+    private static final TokenSet TRY_TOKENS = TokenSet.create(JavaTokenType.TRY_KEYWORD);
+
 
     private static final String DEFAULT_PROBLEM_DESCRIPTION_MESSAGE = "It is not recommended to test exceptions by using try and catch block. " +
             "Using the blocks only is redundant and it make test method bigger and makes it harder to read and understand it.";
@@ -53,13 +59,9 @@ public class CatchExceptionsWithFrameworkToolsJUnitCheckingStrategy extends JUni
         return productionMethodCalls
                 .getElementsFromAllLevels()
                 .stream()
-                .map(PsiCall::resolveMethod)
+                .map(ResolutionCache::resolveMethod)
                 .filter(Objects::nonNull)
-                .noneMatch(method -> Arrays.stream(method.getThrowsList().getReferencedTypes())
-                        .anyMatch(psiClassType -> caughtTypes
-                                .stream()
-                                .filter(Objects::nonNull)
-                                .anyMatch(psiClassType::isAssignableFrom)));
+                .noneMatch(method -> ExceptionTypeHierarchy.throwsSupertypeOfAnyOf(method, caughtTypes));
     }
 
     private BestPracticeViolation createBestPracticeViolation(PsiMethod testMethod, PsiTryStatement psiTryStatement, boolean usingJUnit5, boolean usingJUnit4) {
@@ -100,28 +102,14 @@ public class CatchExceptionsWithFrameworkToolsJUnitCheckingStrategy extends JUni
 
     private HashMap<PsiType, List<PsiMethodCallExpression>> gatherMethodsForExceptions(List<PsiType> caughtTypes, ElementSearchResult<PsiMethodCallExpression> methodCallsThrowingAnyException) {
         HashMap<PsiType, List<PsiMethodCallExpression>> exceptionTestMethodsMap = new HashMap<>();
+        Set<PsiMethodCallExpression> assignedMethodCalls = new HashSet<>();
         caughtTypes.forEach(catchType -> methodCallsThrowingAnyException.getElementsOfCurrentLevel().forEach(methodCallThrowingException -> {
-            if (Optional.ofNullable(methodCallThrowingException.resolveMethod())
-                    .map(PsiMethod::getThrowsList)
-                    .map(psiReferenceList -> Arrays.asList(psiReferenceList.getReferencedTypes()))
-                    .stream()
-                    .anyMatch(psiClassTypes -> psiClassTypes.stream().anyMatch(catchType::isAssignableFrom))) {
-                List<PsiMethodCallExpression> methodCallExpressions = Optional
-                        .ofNullable(exceptionTestMethodsMap.get(catchType))
-                        .orElse(new ArrayList<>());
-                boolean contains = false;
-                for (Map.Entry<PsiType, List<PsiMethodCallExpression>> entry : exceptionTestMethodsMap.entrySet()) {
-                    PsiType key = entry.getKey();
-                    List<PsiMethodCallExpression> value = entry.getValue();
-                    contains = value.contains(methodCallThrowingException);
-                    if (contains) {
-                        break;
-                    }
-                }
-                if (!contains) {
-                    methodCallExpressions.add(methodCallThrowingException);
-                    exceptionTestMethodsMap.put(catchType, methodCallExpressions);
-                }
+            if (!assignedMethodCalls.contains(methodCallThrowingException) &&
+                    Optional.ofNullable(ResolutionCache.resolveMethod(methodCallThrowingException))
+                            .map(method -> ExceptionTypeHierarchy.throwsSubtypeOfAnyOf(method, Collections.singletonList(catchType)))
+                            .orElse(false)) {
+                assignedMethodCalls.add(methodCallThrowingException);
+                exceptionTestMethodsMap.computeIfAbsent(catchType, key -> new ArrayList<>()).add(methodCallThrowingException);
             }
         }));
         return exceptionTestMethodsMap;
@@ -157,4 +145,14 @@ public class CatchExceptionsWithFrameworkToolsJUnitCheckingStrategy extends JUni
     public List<BestPractice> getCheckedBestPractice() {
         return Collections.singletonList(BestPractice.CATCH_TESTED_EXCEPTIONS_USING_FRAMEWORK_TOOLS);
     }
+
+    @Override
+    public TokenSet getRequiredTokens() {
+        return TRY_TOKENS;
+    }
+
+    @Override
+    public List<ElementSearchQuery<?>> getTestMethodQueries() {
+        return Collections.singletonList(QueriesRepository.FIND_ALL_TRY_STATEMENTS);
+    }
 }
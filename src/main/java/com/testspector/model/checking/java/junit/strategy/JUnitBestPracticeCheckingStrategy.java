@@ -1,23 +1,21 @@
 package com.testspector.model.checking.java.junit.strategy;
 
 import com.intellij.lang.jvm.annotation.JvmAnnotationClassValue;
-import com.intellij.openapi.module.Module;
-import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.psi.*;
-import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.TokenSet;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.util.PsiTypesUtil;
 import com.testspector.model.checking.BestPracticeCheckingStrategy;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.junit.JUnitConstants;
+import com.testspector.model.checking.java.junit.TestLibraryProfile;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
-import static com.testspector.model.checking.java.junit.JUnitConstants.*;
-
 public abstract class JUnitBestPracticeCheckingStrategy implements BestPracticeCheckingStrategy<PsiMethod> {
     protected final ElementSearchEngine elementSearchEngine;
     protected final JavaContextIndicator contextIndicator;
@@ -29,28 +27,26 @@ public abstract class JUnitBestPracticeCheckingStrategy implements BestPracticeC
         this.methodResolver = methodResolver;
     }
 
+    public abstract List<ElementSearchQuery<?>> getTestMethodQueries();
+
+    public TokenSet getRequiredTokens() {
+        return TokenSet.EMPTY;
+    }
+
+    public boolean canViolateBestPractice(PsiMethod testMethod) {
+        return true;
+    }
+
     protected boolean areJUnit5ClassesAvailable(PsiMethod method) {
-        Module module = ProjectRootManager.getInstance(method.getProject()).getFileIndex().getModuleForFile(method.getContainingFile().getVirtualFile());
-        if (module != null) {
-            return PsiTypesUtil.getPsiClass(PsiType.getTypeByName(JUNIT5_ASSERTIONS_CLASS_PATH, method.getProject(), GlobalSearchScope.moduleWithLibrariesScope(module))) != null;
-        }
-        return false;
+        return TestLibraryProfile.getInstance(method).isJUnit5Available();
     }
 
     protected boolean areJUnit4ClassesAvailable(PsiMethod method) {
-        Module module = ProjectRootManager.getInstance(method.getProject()).getFileIndex().getModuleForFile(method.getContainingFile().getVirtualFile());
-        if (module != null) {
-            return PsiTypesUtil.getPsiClass(PsiType.getTypeByName(JUNIT4_ASSERTIONS_CLASS_PATH, method.getProject(), GlobalSearchScope.moduleWithLibrariesScope(module))) != null;
-        }
-        return false;
+        return TestLibraryProfile.getInstance(method).isJUnit4Available();
     }
 
     protected boolean isHamcrestAvailable(PsiMethod method) {
-        Module module = ProjectRootManager.getInstance(method.getProject()).getFileIndex().getModuleForFile(method.getContainingFile().getVirtualFile());
-        if (module != null) {
-            return PsiTypesUtil.getPsiClass(PsiType.getTypeByName(HAMCREST_ASSERTIONS_CLASS_PATH, method.getProject(), GlobalSearchScope.moduleWithLibrariesScope(module))) != null;
-        }
-        return false;
+        return TestLibraryProfile.getInstance(method).isHamcrestAvailable();
     }
 
     protected boolean isJUnit4ExpectedTest(PsiMethod testMethod) {
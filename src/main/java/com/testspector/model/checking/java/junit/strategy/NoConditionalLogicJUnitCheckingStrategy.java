@@ -1,10 +1,13 @@
 package com.testspector.model.checking.java.junit.strategy;
 
 import com.intellij.psi.*;
+import com.intellij.psi.tree.TokenSet;
 import com.testspector.model.checking.BestPracticeViolation;
+import com.testspector.model.checking.java.common.ElementRangeIndex;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
 import com.testspector.model.checking.java.common.search.ElementSearchResultUtils;
 import com.testspector.model.checking.java.common.search.QueriesRepository;
@@ -23,6 +26,8 @@ import static com.testspector.model.checking.java.junit.JUnitConstants.*;
 
 public class NoConditionalLogicJUnitCheckingStrategy extends JUnitBestPracticeCheckingStrategy {
 
+    private static final TokenSet CONDITIONAL_TOKENS = TokenSet.create(JavaTokenType.IF_KEYWORD, JavaTokenType.WHILE_KEYWORD, JavaTokenType.SWITCH_KEYWORD, JavaTokenType.FOR_KEYWORD);
+
     private static final String IF_STATEMENT_STRING = "if";
     private static final String FOR_STATEMENT_STRING = "for";
     private static final String FOR_EACH_STATEMENT_STRING = "forEach";
@@ -74,15 +79,11 @@ public class NoConditionalLogicJUnitCheckingStrategy extends JUnitBestPracticeCh
     }
 
     protected ElementSearchResult<PsiStatement> removeGroupedConditionalStatements(ElementSearchResult<PsiStatement> allStatements) {
-        List<PsiStatement> allElementsOfTheCurrentLevel = new ArrayList<>(allStatements.getElementsOfCurrentLevel());
-        List<PsiStatement> toRemove = new ArrayList<>();
-
-        for (PsiStatement psiStatement: allStatements.getElementsOfCurrentLevel()) {
-                toRemove.addAll(elementSearchEngine
-                        .findByQuery(psiStatement, QueriesRepository.FIND_ALL_CONDITIONAL_STATEMENTS)
-                        .getElementsFromAllLevels());
-        }
-        allElementsOfTheCurrentLevel.removeAll(toRemove);
+        ElementRangeIndex statementsIndex = ElementRangeIndex.of(allStatements.getElementsOfCurrentLevel());
+        List<PsiStatement> allElementsOfTheCurrentLevel = allStatements.getElementsOfCurrentLevel()
+                .stream()
+                .filter(psiStatement -> !statementsIndex.isNestedInAny(psiStatement))
+                .collect(Collectors.toList());
         List<Pair<PsiReferenceExpression, ElementSearchResult<PsiStatement>>> referencedElements = new ArrayList<>();
         for (Pair<PsiReferenceExpression, ElementSearchResult<PsiStatement>> referencedResult : allStatements.getReferencedResults()) {
             ElementSearchResult<PsiStatement> newReferencedResult = removeGroupedConditionalStatements(referencedResult.getRight());
@@ -177,4 +178,14 @@ public class NoConditionalLogicJUnitCheckingStrategy extends JUnitBestPracticeCh
         return Collections.singletonList(BestPractice.NO_CONDITIONAL_LOGIC);
     }
 
+    @Override
+    public TokenSet getRequiredTokens() {
+        return CONDITIONAL_TOKENS;
+    }
+
+    @Override
+    public List<ElementSearchQuery<?>> getTestMethodQueries() {
+        return Collections.singletonList(QueriesRepository.FIND_ALL_CONDITIONAL_STATEMENTS);
+    }
+
 }
@@ -5,7 +5,10 @@ import com.intellij.psi.util.PsiTreeUtil;
 import com.testspector.model.checking.BestPracticeViolation;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.MutableStaticFields;
+import com.testspector.model.checking.java.common.ResolutionCache;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
 import com.testspector.model.checking.java.common.search.QueriesRepository;
 import com.testspector.model.checking.java.junit.strategy.action.MakeFieldFinal;
@@ -17,11 +20,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static com.testspector.model.checking.java.common.search.ElementSearchResultUtils.filterResult;
-
 public class NoGlobalStaticPropertiesJUnitCheckingStrategy extends JUnitBestPracticeCheckingStrategy {
 
     private static final String DEFAULT_PROBLEM_DESCRIPTION_MESSAGE = "Global static properties should not be part of a test. " +
@@ -53,7 +53,6 @@ public class NoGlobalStaticPropertiesJUnitCheckingStrategy extends JUnitBestPrac
 
             ElementSearchResult<PsiField> staticPropertiesResult = elementSearchEngine.findByQuery(
                     testMethod, QueriesRepository.FIND_ALL_STATIC_PROPS);
-            staticPropertiesResult = filterResult(isStaticAndNotFinal(), staticPropertiesResult);
             for (PsiField staticProperty : staticPropertiesResult.getElementsFromAllLevels()) {
                 bestPracticeViolations.add(createBestPracticeViolation(staticProperty));
             }
@@ -65,16 +64,6 @@ public class NoGlobalStaticPropertiesJUnitCheckingStrategy extends JUnitBestPrac
         return bestPracticeViolations;
     }
 
-    private static Predicate<PsiField> isStaticAndNotFinal() {
-        return psiField -> {
-            PsiModifierList modifierList = psiField.getModifierList();
-            if (modifierList != null) {
-                return modifierList.hasModifierProperty(PsiModifier.STATIC) && !modifierList.hasExplicitModifier(PsiModifier.FINAL);
-            }
-            return false;
-        };
-    }
-
     private BestPracticeViolation createBestPracticeViolation(PsiField staticProperty) {
         return new BestPracticeViolation(
                 staticProperty,
@@ -101,11 +90,12 @@ public class NoGlobalStaticPropertiesJUnitCheckingStrategy extends JUnitBestPrac
     }
 
     private BestPracticeViolation createBestPracticeViolation(PsiReference reference) {
+        PsiField staticField = (PsiField) ResolutionCache.resolve(reference);
         return new BestPracticeViolation(
                 reference.getElement(),
                 DEFAULT_PROBLEM_DESCRIPTION_MESSAGE,
                 getCheckedBestPractice().get(0),
-                Arrays.asList(new RemoveStaticModifierFromField((PsiField) reference.resolve()), new MakeFieldFinal((PsiField) reference.resolve())),
+                Arrays.asList(new RemoveStaticModifierFromField(staticField), new MakeFieldFinal(staticField)),
                 hints);
     }
 
@@ -121,8 +111,19 @@ public class NoGlobalStaticPropertiesJUnitCheckingStrategy extends JUnitBestPrac
 
     }
 
+    @Override
+    public boolean canViolateBestPractice(PsiMethod testMethod) {
+        PsiClass testClass = testMethod.getContainingClass();
+        return testClass == null || !MutableStaticFields.getVisibleMutableStaticFields(testClass, contextIndicator.isInTestContext()).isEmpty();
+    }
+
     @Override
     public List<BestPractice> getCheckedBestPractice() {
         return Collections.singletonList(BestPractice.NO_GLOBAL_STATIC_PROPERTIES);
     }
+
+    @Override
+    public List<ElementSearchQuery<?>> getTestMethodQueries() {
+        return Collections.singletonList(QueriesRepository.FIND_ALL_STATIC_PROPS);
+    }
 }
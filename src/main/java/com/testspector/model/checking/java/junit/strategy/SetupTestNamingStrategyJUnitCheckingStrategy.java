@@ -6,11 +6,14 @@ import com.intellij.psi.PsiMethodCallExpression;
 import com.testspector.model.checking.BestPracticeViolation;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.NameSimilarity;
+import com.testspector.model.checking.java.common.ResolutionCache;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
+import com.testspector.model.checking.java.common.search.QueriesRepository;
 import com.testspector.model.checking.java.junit.strategy.action.NavigateElementAction;
 import com.testspector.model.enums.BestPractice;
-import me.xdrop.fuzzywuzzy.FuzzySearch;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,14 +56,11 @@ public class SetupTestNamingStrategyJUnitCheckingStrategy extends JUnitBestPract
     }
 
     private ElementSearchResult<PsiMethodCallExpression> filterMethodsWithNameTooSimilarToTestMethod(PsiMethod testMethod, ElementSearchResult<PsiMethodCallExpression> allTestedMethodsResult){
-        String testMethodName = testMethod.getNameIdentifier().getText();
        return filterResult(testedMethodCall -> {
-            PsiMethod testedMethod = testedMethodCall.resolveMethod();
+            PsiMethod testedMethod = ResolutionCache.resolveMethod(testedMethodCall);
             if (testedMethod != null) {
                 int minRatio = selectMinRatio(testedMethod.getName());
-                return FuzzySearch.ratio(
-                        testMethodName.toLowerCase(),
-                        testedMethod.getName().toLowerCase()) > minRatio;
+                return NameSimilarity.isRatioAbove(testMethod, testedMethod, minRatio);
             }
             return false;
         }, allTestedMethodsResult);
@@ -125,4 +125,9 @@ public class SetupTestNamingStrategyJUnitCheckingStrategy extends JUnitBestPract
     public List<BestPractice> getCheckedBestPractice() {
         return Collections.singletonList(BestPractice.SETUP_A_TEST_NAMING_STRATEGY);
     }
+
+    @Override
+    public List<ElementSearchQuery<?>> getTestMethodQueries() {
+        return Collections.singletonList(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS);
+    }
 }
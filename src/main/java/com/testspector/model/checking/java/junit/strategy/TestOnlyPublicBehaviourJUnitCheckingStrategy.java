@@ -4,8 +4,11 @@ import com.intellij.psi.*;
 import com.testspector.model.checking.BestPracticeViolation;
 import com.testspector.model.checking.java.common.JavaContextIndicator;
 import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.ResolutionCache;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.ElementSearchQuery;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
+import com.testspector.model.checking.java.common.search.QueriesRepository;
 import com.testspector.model.checking.java.junit.strategy.action.MakeMethodPublicAction;
 import com.testspector.model.checking.java.junit.strategy.action.NavigateElementAction;
 import com.testspector.model.enums.BestPractice;
@@ -64,23 +67,25 @@ public class TestOnlyPublicBehaviourJUnitCheckingStrategy extends JUnitBestPract
     }
 
     private BestPracticeViolation createBestPracticeViolation(PsiMethodCallExpression nonPublicFromMethodCallExpression) {
+        PsiMethod nonPublicMethod = ResolutionCache.resolveMethod(nonPublicFromMethodCallExpression);
         return new BestPracticeViolation(
                 getReferenceExpressionIdentifier(nonPublicFromMethodCallExpression.getMethodExpression()),
                 DEFAULT_PROBLEM_DESCRIPTION,
                 this.getCheckedBestPractice().get(0),
-                Collections.singletonList(nonPublicFromMethodCallExpression.resolveMethod() != null ?
-                        new MakeMethodPublicAction(nonPublicFromMethodCallExpression.resolveMethod()) :
+                Collections.singletonList(nonPublicMethod != null ?
+                        new MakeMethodPublicAction(nonPublicMethod) :
                         null)
                 , DEFAULT_HINTS);
     }
 
     private BestPracticeViolation createBestPracticeViolation(PsiReference reference) {
+        PsiElement nonPublicMethod = ResolutionCache.resolve(reference);
         return new BestPracticeViolation(
                 reference.getElement(),
                 DEFAULT_PROBLEM_DESCRIPTION,
                 this.getCheckedBestPractice().get(0),
-                Collections.singletonList(reference.resolve() != null ?
-                        new MakeMethodPublicAction((PsiMethod) reference.resolve()) :
+                Collections.singletonList(nonPublicMethod != null ?
+                        new MakeMethodPublicAction((PsiMethod) nonPublicMethod) :
                         null)
                 , DEFAULT_HINTS);
     }
@@ -90,7 +95,7 @@ public class TestOnlyPublicBehaviourJUnitCheckingStrategy extends JUnitBestPract
                 .getElementsOfCurrentLevel()
                 .stream()
                 .filter(methodCall -> {
-                    PsiMethod testedMethod = methodCall.resolveMethod();
+                    PsiMethod testedMethod = ResolutionCache.resolveMethod(methodCall);
                     return testedMethod != null && (methodHasModifier(testedMethod, PsiModifier.PROTECTED) ||
                             isMethodPackagePrivate(testedMethod) ||
                             methodHasModifier(testedMethod, PsiModifier.PRIVATE));
@@ -109,7 +114,7 @@ public class TestOnlyPublicBehaviourJUnitCheckingStrategy extends JUnitBestPract
                 .getElementsOfCurrentLevel()
                 .stream()
                 .filter(reference -> {
-                    PsiMethod testedMethod = (PsiMethod) reference.resolve();
+                    PsiMethod testedMethod = (PsiMethod) ResolutionCache.resolve(reference);
                     return testedMethod != null && (methodHasModifier(testedMethod, PsiModifier.PROTECTED) ||
                             isMethodPackagePrivate(testedMethod) ||
                             methodHasModifier(testedMethod, PsiModifier.PRIVATE));
@@ -150,7 +155,7 @@ public class TestOnlyPublicBehaviourJUnitCheckingStrategy extends JUnitBestPract
         List<BestPracticeViolation> bestPracticeViolations = new ArrayList<>();
         elementSearchResult.getReferencedResults()
                 .forEach(result -> {
-                    List<PsiElement> globalStaticProps = result.getRight().getElementsFromAllLevels().stream().map(PsiReference::resolve).collect(Collectors.toList());
+                    List<PsiElement> globalStaticProps = result.getRight().getElementsFromAllLevels().stream().map(ResolutionCache::resolve).collect(Collectors.toList());
                     if (result.getLeft().getParent() instanceof PsiMethodCallExpression && !globalStaticProps.isEmpty()) {
                         bestPracticeViolations.add(createBestPracticeViolation(getMethodCallExpressionIdentifier((PsiMethodCallExpression) result.getLeft().getParent()), globalStaticProps));
                     }
@@ -176,4 +181,9 @@ public class TestOnlyPublicBehaviourJUnitCheckingStrategy extends JUnitBestPract
     public List<BestPractice> getCheckedBestPractice() {
         return Collections.singletonList(BestPractice.TEST_ONLY_PUBLIC_BEHAVIOUR);
     }
+
+    @Override
+    public List<ElementSearchQuery<?>> getTestMethodQueries() {
+        return Collections.singletonList(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS);
+    }
 }
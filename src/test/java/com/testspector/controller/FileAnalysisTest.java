@@ -0,0 +1,88 @@
+package com.testspector.controller;
+
+import com.testspector.model.checking.BestPracticeViolation;
+import com.testspector.model.enums.BestPractice;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileAnalysisTest {
+
+    @Test
+    public void getViolations_twoEnabledBestPracticesRequestedOneAfterAnother_ShouldAnalyzeOnlyOnce() {
+        List<Set<BestPractice>> analyzedBestPractices = requestBothEnabledBestPracticesOneAfterAnother();
+
+        assertEquals(1, analyzedBestPractices.size());
+    }
+
+    @Test
+    public void getViolations_twoEnabledBestPracticesRequestedOneAfterAnother_ShouldAnalyzeBothTogether() {
+        List<Set<BestPractice>> analyzedBestPractices = requestBothEnabledBestPracticesOneAfterAnother();
+
+        assertEquals(EnumSet.of(BestPractice.NO_CONDITIONAL_LOGIC, BestPractice.ONLY_ONE_ASSERTION), analyzedBestPractices.get(0));
+    }
+
+    @Test
+    public void getViolations_requestedBestPracticeIsNotEnabled_ShouldAnalyzeRequestedBestPractice() {
+        FileAnalysis fileAnalysis = new FileAnalysis();
+        List<Set<BestPractice>> analyzedBestPractices = new ArrayList<>();
+
+        fileAnalysis.getViolations(BestPractice.NO_CONDITIONAL_LOGIC, EnumSet.noneOf(BestPractice.class), bestPractices -> analyze(analyzedBestPractices, bestPractices));
+
+        assertEquals(EnumSet.of(BestPractice.NO_CONDITIONAL_LOGIC), analyzedBestPractices.get(0));
+    }
+
+    @Test
+    public void getViolations_sameBestPracticeAnalyzedOnAnotherThread_ShouldNotWaitForThatAnalysis() throws Exception {
+        FileAnalysis fileAnalysis = new FileAnalysis();
+        CountDownLatch analysisStarted = new CountDownLatch(1);
+        CountDownLatch finishAnalysis = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<List<BestPracticeViolation>> blockedAnalysis = executor.submit(() -> fileAnalysis.getViolations(
+                BestPractice.NO_CONDITIONAL_LOGIC, EnumSet.noneOf(BestPractice.class), bestPractices -> {
+                    analysisStarted.countDown();
+                    awaitUninterruptibly(finishAnalysis);
+                    return analyze(new ArrayList<>(), bestPractices);
+                }));
+        analysisStarted.await();
+
+        List<BestPracticeViolation> violations = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> fileAnalysis.getViolations(
+                BestPractice.NO_CONDITIONAL_LOGIC, EnumSet.noneOf(BestPractice.class), bestPractices -> analyze(new ArrayList<>(), bestPractices)));
+        finishAnalysis.countDown();
+        blockedAnalysis.get();
+        executor.shutdown();
+
+        assertTrue(violations.isEmpty());
+    }
+
+    private List<Set<BestPractice>> requestBothEnabledBestPracticesOneAfterAnother() {
+        FileAnalysis fileAnalysis = new FileAnalysis();
+        Set<BestPractice> enabledBestPractices = EnumSet.of(BestPractice.NO_CONDITIONAL_LOGIC, BestPractice.ONLY_ONE_ASSERTION);
+        List<Set<BestPractice>> analyzedBestPractices = new ArrayList<>();
+        fileAnalysis.getViolations(BestPractice.NO_CONDITIONAL_LOGIC, enabledBestPractices, bestPractices -> analyze(analyzedBestPractices, bestPractices));
+        fileAnalysis.getViolations(BestPractice.ONLY_ONE_ASSERTION, enabledBestPractices, bestPractices -> analyze(analyzedBestPractices, bestPractices));
+        return analyzedBestPractices;
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<BestPractice, List<BestPracticeViolation>> analyze(List<Set<BestPractice>> analyzedBestPractices, Set<BestPractice> bestPractices) {
+        analyzedBestPractices.add(EnumSet.copyOf(bestPractices));
+        Map<BestPractice, List<BestPracticeViolation>> violations = new EnumMap<>(BestPractice.class);
+        bestPractices.forEach(bestPractice -> violations.put(bestPractice, new ArrayList<>()));
+        return violations;
+    }
+}
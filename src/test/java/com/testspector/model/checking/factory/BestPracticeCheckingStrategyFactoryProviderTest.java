@@ -1,5 +1,6 @@
 package com.testspector.model.checking.factory;
 
+import com.testspector.HeavyTestBase;
 import com.testspector.model.checking.java.junit.JUnitBestPracticeCheckingStrategyFactory;
 import com.testspector.model.enums.ProgrammingLanguage;
 import com.testspector.model.enums.UnitTestFramework;
@@ -11,7 +12,7 @@ import org.junit.runner.RunWith;
 import java.util.Optional;
 
 
-public class BestPracticeCheckingStrategyFactoryProviderTest {
+public class BestPracticeCheckingStrategyFactoryProviderTest extends HeavyTestBase {
 
 
     @Test
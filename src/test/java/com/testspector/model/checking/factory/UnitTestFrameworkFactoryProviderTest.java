@@ -1,5 +1,6 @@
 package com.testspector.model.checking.factory;
 
+import com.testspector.HeavyTestBase;
 import com.testspector.model.checking.java.junit.JUnitUnitTestFrameworkFactory;
 import com.testspector.model.enums.ProgrammingLanguage;
 import org.junit.jupiter.api.Assertions;
@@ -7,7 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
-public class UnitTestFrameworkFactoryProviderTest {
+public class UnitTestFrameworkFactoryProviderTest extends HeavyTestBase {
 
 
     @Test
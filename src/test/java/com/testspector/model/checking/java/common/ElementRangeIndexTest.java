@@ -0,0 +1,57 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.psi.PsiIfStatement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ElementRangeIndexTest extends HeavyTestBase {
+
+    private List<PsiIfStatement> statements;
+    private ElementRangeIndex index;
+
+    @BeforeEach
+    public void beforeEach() {
+        PsiJavaFile psiJavaFile = (PsiJavaFile) psiFileFactory.createFileFromText("Test.java", JavaLanguage.INSTANCE,
+                "public class Test {\n" +
+                        "    public void test(boolean a, boolean b) {\n" +
+                        "        if (a) { if (b) { run(); } }\n" +
+                        "        if (b) run();\n" +
+                        "    }\n" +
+                        "    public void run() { }\n" +
+                        "}");
+        statements = new ArrayList<>(PsiTreeUtil.findChildrenOfType(psiJavaFile, PsiIfStatement.class));
+        index = ElementRangeIndex.of(statements);
+    }
+
+    @Test
+    public void isNestedInAny_OuterStatement_ShouldNotBeNested() {
+        assertFalse(index.isNestedInAny(statements.get(0)));
+    }
+
+    @Test
+    public void isNestedInAny_StatementInsideAnotherStatement_ShouldBeNested() {
+        assertTrue(index.isNestedInAny(statements.get(1)));
+    }
+
+    @Test
+    public void isNestedInAny_SiblingStatementAfterNestedOne_ShouldNotBeNested() {
+        assertFalse(index.isNestedInAny(statements.get(2)));
+    }
+
+    @Test
+    public void isEmpty_NoContainers_ShouldBeEmpty() {
+        assertTrue(ElementRangeIndex.of(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void isEmpty_ContainersInFile_ShouldNotBeEmpty() {
+        assertFalse(index.isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.*;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionTypeHierarchyTest extends HeavyTestBase {
+
+    private PsiJavaFile psiJavaFile;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        psiJavaFile = (PsiJavaFile) myFixture.addFileToProject("Thrower.java", loadFileContentFromResources("exceptionTypeHierarchyTest/Thrower.java"));
+    }
+
+    @Test
+    public void throwsSubtypeOfAnyOf_MethodThrowsSubtypeOfCaughtException_ShouldReturnTrue() {
+        assertTrue(ExceptionTypeHierarchy.throwsSubtypeOfAnyOf(findMethod("throwChild"), caughtTypes("BaseException")));
+    }
+
+    @Test
+    public void throwsSubtypeOfAnyOf_MethodThrowsSupertypeOfCaughtException_ShouldReturnFalse() {
+        assertFalse(ExceptionTypeHierarchy.throwsSubtypeOfAnyOf(findMethod("throwBase"), caughtTypes("ChildException")));
+    }
+
+    @Test
+    public void throwsSupertypeOfAnyOf_MethodThrowsSupertypeOfCaughtException_ShouldReturnTrue() {
+        assertTrue(ExceptionTypeHierarchy.throwsSupertypeOfAnyOf(findMethod("throwBase"), caughtTypes("ChildException")));
+    }
+
+    @Test
+    public void throwsSupertypeOfAnyOf_MethodThrowsSubtypeOfCaughtException_ShouldReturnFalse() {
+        assertFalse(ExceptionTypeHierarchy.throwsSupertypeOfAnyOf(findMethod("throwChild"), caughtTypes("BaseException")));
+    }
+
+    @Test
+    public void throwsSubtypeOfAnyOf_MethodThrowsUnrelatedException_ShouldReturnFalse() {
+        assertFalse(ExceptionTypeHierarchy.throwsSubtypeOfAnyOf(findMethod("throwChild"), caughtTypes("OtherException")));
+    }
+
+    @Test
+    public void throwsSupertypeOfAnyOf_MethodThrowsNothing_ShouldReturnFalse() {
+        assertFalse(ExceptionTypeHierarchy.throwsSupertypeOfAnyOf(findMethod("throwNothing"), caughtTypes("ChildException")));
+    }
+
+    @Test
+    public void getThrownTypes_ThrowsListChanged_ShouldReturnNewThrownTypes() {
+        ExceptionTypeHierarchy.getThrownTypes(findMethod("throwNothing"));
+
+        replaceText("public void throwNothing() {", "public void throwNothing() throws OtherException {");
+
+        assertEquals(1, ExceptionTypeHierarchy.getThrownTypes(findMethod("throwNothing")).size());
+    }
+
+    @Test
+    public void isAssignable_ExceptionHierarchyChanged_ShouldReturnNewRelation() {
+        ExceptionTypeHierarchy.isAssignable(getProject(), createType("BaseException"), createType("OtherException"));
+
+        replaceText("class OtherException extends Exception {", "class OtherException extends BaseException {");
+
+        assertTrue(ExceptionTypeHierarchy.isAssignable(getProject(), createType("BaseException"), createType("OtherException")));
+    }
+
+    @Test
+    public void isAssignable_ClassesWithSameQualifiedNamesButDifferentHierarchy_ShouldNotShareCachedRelation() {
+        PsiJavaFile otherVersion = (PsiJavaFile) psiFileFactory.createFileFromText("Thrower.java", JavaLanguage.INSTANCE,
+                "class BaseException extends Exception {}\nclass OtherException extends BaseException {}");
+        ExceptionTypeHierarchy.isAssignable(getProject(), createType("BaseException"), createType("OtherException"));
+
+        assertTrue(ExceptionTypeHierarchy.isAssignable(getProject(),
+                psiElementFactory.createType(otherVersion.getClasses()[0]),
+                psiElementFactory.createType(otherVersion.getClasses()[1])));
+    }
+
+    private void replaceText(String oldText, String newText) {
+        PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = psiDocumentManager.getDocument(psiJavaFile);
+        document.setText(document.getText().replace(oldText, newText));
+        psiDocumentManager.commitDocument(document);
+    }
+
+    private List<PsiType> caughtTypes(String exceptionClassName) {
+        return Collections.singletonList(createType(exceptionClassName));
+    }
+
+    private PsiType createType(String className) {
+        return psiElementFactory.createType(findClass(className));
+    }
+
+    private PsiMethod findMethod(String methodName) {
+        return findClass("Thrower").findMethodsByName(methodName, false)[0];
+    }
+
+    private PsiClass findClass(String className) {
+        return Arrays.stream(psiJavaFile.getClasses())
+                .filter(psiClass -> className.equals(psiClass.getName()))
+                .findFirst()
+                .get();
+    }
+}
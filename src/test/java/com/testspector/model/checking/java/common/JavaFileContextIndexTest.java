@@ -0,0 +1,61 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileWithId;
+import com.intellij.psi.PsiFile;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JavaFileContextIndexTest extends HeavyTestBase {
+
+    @Test
+    public void getFileContext_FileInSourceRoot_ShouldBeProduction() {
+        VirtualFile virtualFile = createProductionFile().getVirtualFile();
+
+        assertSame(JavaFileContext.PRODUCTION, getIndex().getFileContext(virtualFile));
+    }
+
+    @Test
+    public void getFileContext_FileIdOfFileInSourceRoot_ShouldBeProduction() {
+        int fileId = ((VirtualFileWithId) createProductionFile().getVirtualFile()).getId();
+
+        assertSame(JavaFileContext.PRODUCTION, getIndex().getFileContext(fileId));
+    }
+
+    @Test
+    public void getFileContext_PsiFileInSourceRoot_ShouldBeProduction() {
+        PsiFile psiFile = createProductionFile();
+
+        assertSame(JavaFileContext.PRODUCTION, new JavaContextIndicator().getFileContext(psiFile));
+    }
+
+    @Test
+    public void getFileContext_FileOutsideOfProject_ShouldBeOther() {
+        PsiFile psiFile = psiFileFactory.createFileFromText("Other.java", "public class Other {}");
+
+        assertSame(JavaFileContext.OTHER, new JavaContextIndicator().getFileContext(psiFile));
+    }
+
+    @Test
+    public void getFileContext_ClassifiedFileDeleted_ShouldBeOther() throws IOException {
+        VirtualFile virtualFile = createProductionFile().getVirtualFile();
+        int fileId = ((VirtualFileWithId) virtualFile).getId();
+        getIndex().getFileContext(fileId);
+
+        virtualFile.delete(this);
+
+        assertSame(JavaFileContext.OTHER, getIndex().getFileContext(fileId));
+    }
+
+    private PsiFile createProductionFile() {
+        return myFixture.addFileToProject("Production.java", "public class Production {}");
+    }
+
+    private JavaFileContextIndex getIndex() {
+        return getProject().getService(JavaFileContextIndex.class);
+    }
+}
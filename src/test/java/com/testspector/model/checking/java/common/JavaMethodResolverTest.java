@@ -1,6 +1,7 @@
 package com.testspector.model.checking.java.common;
 
 import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.testspector.model.checking.java.JavaTest;
 import com.testspector.model.checking.java.common.search.ElementSearchEngine;
 import com.testspector.model.checking.java.common.search.ElementSearchResult;
@@ -80,6 +81,28 @@ class JavaMethodResolverTest extends JavaTest {
          Assert.assertSame(assertMethod, foundMethod);
      }
 
+    @Test
+    public void resolveAssertMethod_customAssertionMethodResolvedTwice_ShouldSearchForThrowStatementsOnlyOnce() {
+        String className = "Test";
+        PsiJavaFile psiJavaFile = this.javaTestElementUtil
+                .createFile(className, "com.testspector", Collections.emptyList(), Collections.emptyList());
+        PsiClass psiClass = (PsiClass) psiJavaFile.add(this.psiElementFactory.createClass(className));
+        PsiThrowStatement throwStatement = (PsiThrowStatement) this.psiElementFactory
+                .createStatementFromText("throw new AssertionError()", null);
+        PsiMethod assertMethod = (PsiMethod) psiClass.add(this.psiElementFactory
+                .createMethodFromText(createCustomAssertionMethod("customAssertionMethod", throwStatement), null));
+        EasyMock.expect(elementSearchEngine.findByQuery(assertMethod, QueriesRepository.FIND_ASSERTION_THROW_STATEMENTS_IN_CUSTOM_ASSERTIONS))
+                .andReturn(new ElementSearchResult<>(new ArrayList<>(), Collections.singletonList(throwStatement))).times(1);
+        EasyMock.replay(elementSearchEngine);
+
+        JavaMethodResolver javaMethodResolver = new JavaMethodResolver(elementSearchEngine, contextIndicator);
+        javaMethodResolver.tryToGetAssertionMethod(assertMethod);
+        Optional<PsiMethod> foundMethod = javaMethodResolver.tryToGetAssertionMethod(assertMethod);
+
+        EasyMock.verify(elementSearchEngine);
+        Assert.assertSame(assertMethod, foundMethod.get());
+    }
+
     @Test
     public void resolveAssertMethod_assertionMethodCallThatReferencesNullMethod_ShouldNotResolve() {
         String className = "Test";
@@ -315,6 +338,95 @@ class JavaMethodResolverTest extends JavaTest {
     }
 
 
+    @Test
+    public void allTestedMethodsReferences_literalWhichCannotNameMethod_ShouldNotResolveAnyReferences() {
+        PsiMethod testMethod = this.javaTestElementUtil
+                .createTestMethod("TestMethod", Collections.singletonList("@org.junit.Test"));
+        PsiMethodCallExpression assertionMethodCall = (PsiMethodCallExpression) psiElementFactory.createExpressionFromText("assertionMethod(\"not a method name\")", null);
+        PsiLiteralExpression literalExpression = (PsiLiteralExpression) assertionMethodCall.getArgumentList().getExpressions()[0];
+        EasyMock.expect(elementSearchEngine.findByQuery(EasyMock.eq(testMethod), EasyMock.eq(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)))
+                .andReturn(new ElementSearchResult<>(new ArrayList<>(), Collections.singletonList(assertionMethodCall))).times(1);
+        EasyMock.expect(elementSearchEngine.findByQuery(EasyMock.eq(assertionMethodCall), EasyMock.eq(QueriesRepository.FIND_ALL_LITERAL_EXPRESSIONS)))
+                .andReturn(new ElementSearchResult<>(new ArrayList<>(), Collections.singletonList(literalExpression))).times(1);
+        EasyMock.replay(elementSearchEngine, contextIndicator);
+
+        JavaMethodResolver javaMethodResolver = new JavaMethodResolver(elementSearchEngine, contextIndicator);
+        ElementSearchResult<PsiReference> result = javaMethodResolver.allTestedMethodsReferences(testMethod);
+
+        assertTrue(result.getElementsFromAllLevels().isEmpty());
+        EasyMock.verify(contextIndicator);
+    }
+
+
+    @Test
+    public void allTestedMethodsReferences_methodNameShapedLiteralPassedToOrdinaryMethodCall_ShouldNotResolveAnyReferences() {
+        assertTrue(allTestedMethodsReferencesOfLiteralIn("assertionMethod(\"admin\")").getElementsFromAllLevels().isEmpty());
+    }
+
+    @Test
+    public void allTestedMethodsReferences_methodNameShapedLiteralPassedToConstructor_ShouldNotResolveAnyReferences() {
+        assertTrue(allTestedMethodsReferencesOfLiteralIn("assertionMethod(new String(\"John\"))").getElementsFromAllLevels().isEmpty());
+    }
+
+    @Test
+    public void canNameMethod_methodSourceValue_ShouldReturnTrue() {
+        assertTrue(createMethodResolver().canNameMethod(findLiteralInAnnotatedMethod("@org.junit.jupiter.params.provider.MethodSource(\"provideValues\")")));
+    }
+
+    @Test
+    public void canNameMethod_methodSourceArrayValue_ShouldReturnTrue() {
+        assertTrue(createMethodResolver().canNameMethod(findLiteralInAnnotatedMethod("@org.junit.jupiter.params.provider.MethodSource({\"provideValues\"})")));
+    }
+
+    @Test
+    public void canNameMethod_junitParamsMethodAttribute_ShouldReturnTrue() {
+        assertTrue(createMethodResolver().canNameMethod(findLiteralInAnnotatedMethod("@junitparams.Parameters(method = \"provideValues\")")));
+    }
+
+    @Test
+    public void canNameMethod_getDeclaredMethodArgument_ShouldReturnTrue() {
+        PsiMethodCallExpression lookup = (PsiMethodCallExpression) psiElementFactory.createExpressionFromText("Production.class.getDeclaredMethod(\"run\")", null);
+
+        assertTrue(createMethodResolver().canNameMethod(PsiTreeUtil.findChildOfType(lookup, PsiLiteralExpression.class)));
+    }
+
+    @Test
+    public void canNameMethod_valueSourceArrayValue_ShouldReturnFalse() {
+        assertFalse(createMethodResolver().canNameMethod(findLiteralInAnnotatedMethod("@org.junit.jupiter.params.provider.ValueSource(strings = {\"admin\"})")));
+    }
+
+    @Test
+    public void canNameMethod_displayNameValue_ShouldReturnFalse() {
+        assertFalse(createMethodResolver().canNameMethod(findLiteralInAnnotatedMethod("@org.junit.jupiter.api.DisplayName(\"John\")")));
+    }
+
+    private JavaMethodResolver createMethodResolver() {
+        EasyMock.replay(elementSearchEngine, contextIndicator);
+        return new JavaMethodResolver(elementSearchEngine, contextIndicator);
+    }
+
+    private PsiLiteralExpression findLiteralInAnnotatedMethod(String annotation) {
+        PsiMethod method = psiElementFactory.createMethodFromText(annotation + "\npublic void testMethod() {}", null);
+        return PsiTreeUtil.findChildOfType(method.getModifierList(), PsiLiteralExpression.class);
+    }
+
+    private ElementSearchResult<PsiReference> allTestedMethodsReferencesOfLiteralIn(String callText) {
+        PsiMethod testMethod = this.javaTestElementUtil
+                .createTestMethod("TestMethod", Collections.singletonList("@org.junit.Test"));
+        PsiMethodCallExpression callExpression = (PsiMethodCallExpression) psiElementFactory.createExpressionFromText(callText, null);
+        PsiLiteralExpression literalExpression = PsiTreeUtil.findChildOfType(callExpression, PsiLiteralExpression.class);
+        EasyMock.expect(elementSearchEngine.findByQuery(EasyMock.eq(testMethod), EasyMock.eq(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)))
+                .andReturn(new ElementSearchResult<>(new ArrayList<>(), Collections.singletonList(callExpression))).times(1);
+        EasyMock.expect(elementSearchEngine.findByQuery(EasyMock.eq(callExpression), EasyMock.eq(QueriesRepository.FIND_ALL_LITERAL_EXPRESSIONS)))
+                .andReturn(new ElementSearchResult<>(new ArrayList<>(), Collections.singletonList(literalExpression))).times(1);
+        EasyMock.replay(elementSearchEngine, contextIndicator);
+
+        ElementSearchResult<PsiReference> result = new JavaMethodResolver(elementSearchEngine, contextIndicator).allTestedMethodsReferences(testMethod);
+
+        EasyMock.verify(contextIndicator);
+        return result;
+    }
+
     private String createCustomAssertionMethod(String methodName, PsiThrowStatement assertionError) {
         return String.format("public static void %s(String expected,String actual) {\n" +
                 "        if (expected!=null && !expected.equals(actual)) {\n" +
@@ -0,0 +1,63 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.tree.TokenSet;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JavaTokenSummaryTest extends HeavyTestBase {
+
+    private static final TokenSet TRY_TOKENS = TokenSet.create(JavaTokenType.TRY_KEYWORD);
+
+    private PsiJavaFile psiJavaFile;
+
+    @BeforeEach
+    public void beforeEach() {
+        psiJavaFile = (PsiJavaFile) myFixture.addFileToProject("Test.java",
+                "public class Test {\n" +
+                        "    public void withTry() { try { run(); } catch (Exception e) { } }\n" +
+                        "    public void withoutTry() { run(); }\n" +
+                        "    public void run() { }\n" +
+                        "}");
+    }
+
+    @Test
+    public void containsAnyOf_FileWithTryStatement_ShouldContainTryToken() {
+        assertTrue(JavaTokenSummary.getInstance(psiJavaFile).containsAnyOf(TRY_TOKENS));
+    }
+
+    @Test
+    public void containsAnyOf_MethodWithTryStatement_ShouldContainTryToken() {
+        assertTrue(JavaTokenSummary.containsAnyOf(findMethod("withTry"), TRY_TOKENS));
+    }
+
+    @Test
+    public void containsAnyOf_MethodWithoutTryStatement_ShouldNotContainTryToken() {
+        assertFalse(JavaTokenSummary.containsAnyOf(findMethod("withoutTry"), TRY_TOKENS));
+    }
+
+    @Test
+    public void containsAnyOf_MethodWithoutIfStatement_ShouldNotContainIfToken() {
+        assertFalse(JavaTokenSummary.containsAnyOf(findMethod("withTry"), TokenSet.create(JavaTokenType.IF_KEYWORD)));
+    }
+
+    @Test
+    public void containsAnyOf_TryStatementAddedToMethodAfterSummary_ShouldContainTryToken() {
+        JavaTokenSummary.containsAnyOf(findMethod("withoutTry"), TRY_TOKENS);
+        PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = psiDocumentManager.getDocument(psiJavaFile);
+        document.setText(document.getText().replace("public void withoutTry() { run(); }", "public void withoutTry() { try { run(); } finally { } }"));
+        psiDocumentManager.commitDocument(document);
+
+        assertTrue(JavaTokenSummary.containsAnyOf(findMethod("withoutTry"), TRY_TOKENS));
+    }
+
+    private PsiMethod findMethod(String methodName) {
+        return psiJavaFile.getClasses()[0].findMethodsByName(methodName, false)[0];
+    }
+}
@@ -0,0 +1,323 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.testspector.HeavyTestBase;
+import org.jetbrains.org.objectweb.asm.ClassWriter;
+import org.jetbrains.org.objectweb.asm.Label;
+import org.jetbrains.org.objectweb.asm.MethodVisitor;
+import org.jetbrains.org.objectweb.asm.Opcodes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LibraryAssertionCatalogTest extends HeavyTestBase {
+
+    private Path storageDirectory;
+    private VirtualFile jarFile;
+    private VirtualFile jarRoot;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        Path directory = Files.createTempDirectory("testspector-catalog");
+        File jar = createJar(directory.resolve("custom-assertions-1.0.jar").toFile());
+        jarFile = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(jar);
+        jarRoot = JarFileSystem.getInstance().getJarRootForLocalFile(jarFile);
+        storageDirectory = directory.resolve("storage");
+    }
+
+    @Test
+    public void getCatalog_MethodThrowingAssertionError_ShouldBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertTrue(catalog.contains("lib.CustomAssertions#fail"));
+    }
+
+    @Test
+    public void getCatalog_MethodThrowingAssertionErrorSubtype_ShouldBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertTrue(catalog.contains("lib.CustomAssertions#failWithCustomError"));
+    }
+
+    @Test
+    public void getCatalog_PublicMethodCallingAssertionMethod_ShouldBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertTrue(catalog.contains("lib.CustomAssertions#assertPositive"));
+    }
+
+    @Test
+    public void getCatalog_MethodAnnotatedAsAssertion_ShouldBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertTrue(catalog.contains("lib.CustomAssertions#verifyAll"));
+    }
+
+    @Test
+    public void getCatalog_MethodWithoutAssertion_ShouldNotBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertFalse(catalog.contains("lib.CustomAssertions#helper"));
+    }
+
+    @Test
+    public void getCatalog_MethodWithAssertStatement_ShouldNotBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertFalse(catalog.contains("lib.CustomAssertions#checkInvariant"));
+    }
+
+    @Test
+    public void getCatalog_PrivateMethodCallingAssertionMethod_ShouldNotBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertFalse(catalog.contains("lib.CustomAssertions#failInternally"));
+    }
+
+    @Test
+    public void getCatalog_PublicMethodCallingPrivateAssertionMethod_ShouldBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertTrue(catalog.contains("lib.CustomAssertions#verifyInternally"));
+    }
+
+    @Test
+    public void getCatalog_PublicMethodFailingThroughTwoPrivateMethods_ShouldBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertTrue(catalog.contains("lib.CustomAssertions#isEqualTo"));
+    }
+
+    @Test
+    public void getCatalog_PrivateMethodCreatingAssertionError_ShouldNotBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertFalse(catalog.contains("lib.CustomAssertions#failWithMessage"));
+    }
+
+    @Test
+    public void getCatalog_MethodAnnotatedWithAnnotationOnlyMentioningAssertion_ShouldNotBeInCatalog() {
+        Set<String> catalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        assertFalse(catalog.contains("lib.CustomAssertions#skipped"));
+    }
+
+    @Test
+    public void getModificationTracker_CatalogStillBuilding_ShouldNotChange() {
+        LibraryAssertionCatalog libraryAssertionCatalog = new LibraryAssertionCatalog(storageDirectory, build -> {
+        });
+        long modificationCount = libraryAssertionCatalog.getModificationTracker().getModificationCount();
+
+        libraryAssertionCatalog.getCatalog(jarRoot, jarFile);
+
+        assertEquals(modificationCount, libraryAssertionCatalog.getModificationTracker().getModificationCount());
+    }
+
+    @Test
+    public void getModificationTracker_CatalogWithAssertionMethodsBuilt_ShouldChange() {
+        LibraryAssertionCatalog libraryAssertionCatalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run);
+        long modificationCount = libraryAssertionCatalog.getModificationTracker().getModificationCount();
+
+        libraryAssertionCatalog.getCatalog(jarRoot, jarFile);
+
+        assertNotEquals(modificationCount, libraryAssertionCatalog.getModificationTracker().getModificationCount());
+    }
+
+    @Test
+    public void getCatalog_CatalogStillBuilding_ShouldReturnEmptyCatalogAndBuildOnlyOnce() {
+        List<Runnable> scheduledBuilds = new ArrayList<>();
+        LibraryAssertionCatalog libraryAssertionCatalog = new LibraryAssertionCatalog(storageDirectory, scheduledBuilds::add);
+
+        Set<String> firstCatalog = libraryAssertionCatalog.getCatalog(jarRoot, jarFile);
+        Set<String> secondCatalog = libraryAssertionCatalog.getCatalog(jarRoot, jarFile);
+
+        assertAll(
+                () -> assertTrue(firstCatalog.isEmpty()),
+                () -> assertTrue(secondCatalog.isEmpty()),
+                () -> assertEquals(1, scheduledBuilds.size())
+        );
+    }
+
+    @Test
+    public void getCatalog_CatalogBuildFinished_ShouldReturnBuiltCatalog() {
+        List<Runnable> scheduledBuilds = new ArrayList<>();
+        LibraryAssertionCatalog libraryAssertionCatalog = new LibraryAssertionCatalog(storageDirectory, scheduledBuilds::add);
+        libraryAssertionCatalog.getCatalog(jarRoot, jarFile);
+
+        scheduledBuilds.forEach(Runnable::run);
+
+        assertTrue(libraryAssertionCatalog.getCatalog(jarRoot, jarFile).contains("lib.CustomAssertions#fail"));
+    }
+
+    @Test
+    public void getCatalog_CatalogStoredByAnotherInstance_ShouldLoadStoredCatalogWithoutBuilding() {
+        Set<String> builtCatalog = new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        Set<String> storedCatalog = new LibraryAssertionCatalog(storageDirectory, build -> fail("Stored catalog should not be rebuilt")).getCatalog(jarRoot, jarFile);
+
+        assertEquals(builtCatalog, storedCatalog);
+    }
+
+    @Test
+    public void getCatalog_CatalogBuilt_ShouldStoreSingleFile() throws IOException {
+        new LibraryAssertionCatalog(storageDirectory, Runnable::run).getCatalog(jarRoot, jarFile);
+
+        try (Stream<Path> storedFiles = Files.list(storageDirectory)) {
+            assertEquals(1, storedFiles.count());
+        }
+    }
+
+    @Test
+    public void storeCatalog_StoredCatalogCannotBeReplaced_ShouldDeleteTemporaryFile() throws IOException {
+        Path storedCatalog = Files.createDirectories(storageDirectory.resolve("catalog.txt"));
+        Files.createFile(storedCatalog.resolve("blocking"));
+
+        new LibraryAssertionCatalog(storageDirectory, Runnable::run).storeCatalog(storedCatalog, "jar", Set.of("lib.CustomAssertions#fail"));
+
+        try (Stream<Path> storedFiles = Files.list(storageDirectory)) {
+            assertEquals(List.of(storedCatalog), storedFiles.collect(Collectors.toList()));
+        }
+    }
+
+    private File createJar(File jar) throws IOException {
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            outputStream.putNextEntry(new JarEntry("lib/CustomError.class"));
+            outputStream.write(createCustomErrorClass());
+            outputStream.closeEntry();
+            outputStream.putNextEntry(new JarEntry("lib/CustomAssertions.class"));
+            outputStream.write(createAssertionsClass());
+            outputStream.closeEntry();
+        }
+        return jar;
+    }
+
+    private byte[] createCustomErrorClass() {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "lib/CustomError", null, "java/lang/AssertionError", null);
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private byte[] createAssertionsClass() {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "lib/CustomAssertions", null, "java/lang/Object", null);
+
+        MethodVisitor fail = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "fail", "()V", null, null);
+        fail.visitCode();
+        fail.visitTypeInsn(Opcodes.NEW, "java/lang/AssertionError");
+        fail.visitInsn(Opcodes.DUP);
+        fail.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/AssertionError", "<init>", "()V", false);
+        fail.visitInsn(Opcodes.ATHROW);
+        fail.visitMaxs(0, 0);
+        fail.visitEnd();
+
+        MethodVisitor failWithCustomError = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "failWithCustomError", "()V", null, null);
+        failWithCustomError.visitCode();
+        failWithCustomError.visitTypeInsn(Opcodes.NEW, "lib/CustomError");
+        failWithCustomError.visitInsn(Opcodes.DUP);
+        failWithCustomError.visitMethodInsn(Opcodes.INVOKESPECIAL, "lib/CustomError", "<init>", "()V", false);
+        failWithCustomError.visitInsn(Opcodes.ATHROW);
+        failWithCustomError.visitMaxs(0, 0);
+        failWithCustomError.visitEnd();
+
+        MethodVisitor assertPositive = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "assertPositive", "(I)V", null, null);
+        assertPositive.visitCode();
+        assertPositive.visitMethodInsn(Opcodes.INVOKESTATIC, "lib/CustomAssertions", "fail", "()V", false);
+        assertPositive.visitInsn(Opcodes.RETURN);
+        assertPositive.visitMaxs(0, 0);
+        assertPositive.visitEnd();
+
+        MethodVisitor verifyAll = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "verifyAll", "()V", null, null);
+        verifyAll.visitAnnotation("Llib/AssertionMethod;", false).visitEnd();
+        verifyAll.visitCode();
+        verifyAll.visitInsn(Opcodes.RETURN);
+        verifyAll.visitMaxs(0, 0);
+        verifyAll.visitEnd();
+
+        MethodVisitor checkInvariant = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "checkInvariant", "(I)V", null, null);
+        checkInvariant.visitCode();
+        Label invariantHolds = new Label();
+        checkInvariant.visitFieldInsn(Opcodes.GETSTATIC, "lib/CustomAssertions", "$assertionsDisabled", "Z");
+        checkInvariant.visitJumpInsn(Opcodes.IFNE, invariantHolds);
+        checkInvariant.visitVarInsn(Opcodes.ILOAD, 0);
+        checkInvariant.visitJumpInsn(Opcodes.IFGE, invariantHolds);
+        checkInvariant.visitTypeInsn(Opcodes.NEW, "java/lang/AssertionError");
+        checkInvariant.visitInsn(Opcodes.DUP);
+        checkInvariant.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/AssertionError", "<init>", "()V", false);
+        checkInvariant.visitInsn(Opcodes.ATHROW);
+        checkInvariant.visitLabel(invariantHolds);
+        checkInvariant.visitInsn(Opcodes.RETURN);
+        checkInvariant.visitMaxs(0, 0);
+        checkInvariant.visitEnd();
+
+        MethodVisitor failInternally = classWriter.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC, "failInternally", "()V", null, null);
+        failInternally.visitCode();
+        failInternally.visitMethodInsn(Opcodes.INVOKESTATIC, "lib/CustomAssertions", "fail", "()V", false);
+        failInternally.visitInsn(Opcodes.RETURN);
+        failInternally.visitMaxs(0, 0);
+        failInternally.visitEnd();
+
+        MethodVisitor verifyInternally = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "verifyInternally", "()V", null, null);
+        verifyInternally.visitCode();
+        verifyInternally.visitMethodInsn(Opcodes.INVOKESTATIC, "lib/CustomAssertions", "failInternally", "()V", false);
+        verifyInternally.visitInsn(Opcodes.RETURN);
+        verifyInternally.visitMaxs(0, 0);
+        verifyInternally.visitEnd();
+
+        MethodVisitor failWithMessage = classWriter.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC, "failWithMessage", "()V", null, null);
+        failWithMessage.visitCode();
+        failWithMessage.visitTypeInsn(Opcodes.NEW, "java/lang/AssertionError");
+        failWithMessage.visitInsn(Opcodes.DUP);
+        failWithMessage.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/AssertionError", "<init>", "()V", false);
+        failWithMessage.visitInsn(Opcodes.ATHROW);
+        failWithMessage.visitMaxs(0, 0);
+        failWithMessage.visitEnd();
+
+        MethodVisitor failComparison = classWriter.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC, "failComparison", "()V", null, null);
+        failComparison.visitCode();
+        failComparison.visitMethodInsn(Opcodes.INVOKESTATIC, "lib/CustomAssertions", "failWithMessage", "()V", false);
+        failComparison.visitInsn(Opcodes.RETURN);
+        failComparison.visitMaxs(0, 0);
+        failComparison.visitEnd();
+
+        MethodVisitor isEqualTo = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "isEqualTo", "()V", null, null);
+        isEqualTo.visitCode();
+        isEqualTo.visitMethodInsn(Opcodes.INVOKESTATIC, "lib/CustomAssertions", "failComparison", "()V", false);
+        isEqualTo.visitInsn(Opcodes.RETURN);
+        isEqualTo.visitMaxs(0, 0);
+        isEqualTo.visitEnd();
+
+        MethodVisitor skipped = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "skipped", "()V", null, null);
+        skipped.visitAnnotation("Llib/SkipAssertion;", false).visitEnd();
+        skipped.visitCode();
+        skipped.visitInsn(Opcodes.RETURN);
+        skipped.visitMaxs(0, 0);
+        skipped.visitEnd();
+
+        MethodVisitor helper = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "helper", "()I", null, null);
+        helper.visitCode();
+        helper.visitInsn(Opcodes.ICONST_1);
+        helper.visitInsn(Opcodes.IRETURN);
+        helper.visitMaxs(0, 0);
+        helper.visitEnd();
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+}
@@ -0,0 +1,86 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableStaticFieldsTest extends HeavyTestBase {
+
+    private PsiJavaFile psiJavaFile;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        psiJavaFile = (PsiJavaFile) myFixture.addFileToProject("StaticStateTest.java", loadFileContentFromResources("mutableStaticFieldsTest/StaticStateTest.java"));
+    }
+
+    @Test
+    public void getVisibleMutableStaticFields_ClassDeclaresMutableStaticField_ShouldContainIt() {
+        assertTrue(getVisibleMutableStaticFields("StaticStateTest").contains(findField("StaticStateTest", "ownState")));
+    }
+
+    @Test
+    public void getVisibleMutableStaticFields_ClassInheritsMutableStaticField_ShouldContainIt() {
+        assertTrue(getVisibleMutableStaticFields("StaticStateTest").contains(findField("BaseStaticStateTest", "inheritedCounter")));
+    }
+
+    @Test
+    public void getVisibleMutableStaticFields_ClassCallsTestUtilityUsingMutableStaticField_ShouldContainIt() {
+        assertTrue(getVisibleMutableStaticFields("StaticStateTest").contains(findField("StaticStateUtility", "utilityState")));
+    }
+
+    @Test
+    public void getVisibleMutableStaticFields_ClassDeclaresStaticFinalField_ShouldNotContainIt() {
+        assertFalse(getVisibleMutableStaticFields("StaticStateTest").contains(findField("StaticStateTest", "CONSTANT")));
+    }
+
+    @Test
+    public void getVisibleMutableStaticFields_MutableStaticFieldOfUnreferencedClass_ShouldNotContainIt() {
+        assertFalse(getVisibleMutableStaticFields("StaticStateTest").contains(findField("UnrelatedStaticState", "unrelatedState")));
+    }
+
+    @Test
+    public void getVisibleMutableStaticFields_ClassWithoutStaticState_ShouldBeEmpty() {
+        assertTrue(getVisibleMutableStaticFields("NoStaticStateTest").isEmpty());
+    }
+
+    @Test
+    public void getVisibleMutableStaticFields_ClassChangedToReferenceMutableStaticField_ShouldContainIt() {
+        getVisibleMutableStaticFields("NoStaticStateTest");
+        PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = psiDocumentManager.getDocument(psiJavaFile);
+        document.setText(document.getText().replace("int value = 1;", "int value = UnrelatedStaticState.unrelatedState;"));
+        psiDocumentManager.commitDocument(document);
+
+        assertTrue(getVisibleMutableStaticFields("NoStaticStateTest").contains(findField("UnrelatedStaticState", "unrelatedState")));
+    }
+
+    @Test
+    public void isMutableStaticField_StaticFinalField_ShouldReturnFalse() {
+        assertFalse(MutableStaticFields.isMutableStaticField(findField("StaticStateTest", "CONSTANT")));
+    }
+
+    private Set<PsiField> getVisibleMutableStaticFields(String className) {
+        return MutableStaticFields.getVisibleMutableStaticFields(findClass(className), element -> psiJavaFile.equals(element.getContainingFile()));
+    }
+
+    private PsiField findField(String className, String fieldName) {
+        return findClass(className).findFieldByName(fieldName, false);
+    }
+
+    private PsiClass findClass(String className) {
+        return Arrays.stream(psiJavaFile.getClasses())
+                .filter(psiClass -> className.equals(psiClass.getName()))
+                .findFirst()
+                .get();
+    }
+}
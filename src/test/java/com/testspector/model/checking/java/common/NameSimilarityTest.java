@@ -0,0 +1,78 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.testspector.model.checking.java.JavaTest;
+import me.xdrop.fuzzywuzzy.FuzzySearch;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class NameSimilarityTest extends JavaTest {
+
+    private static final String[] NAME_PARTS = {"get", "set", "is", "add", "remove", "user", "name", "Test", "when", "then", "should", "_", "a", "b", "x", "count", "Value"};
+    private static final int[] MIN_RATIOS = {28, 43, 50, 70};
+
+    @Test
+    public void ratio_RandomCamelCaseAndSnakeCaseNames_ShouldGiveSameRatiosAsFuzzySearch() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String first = randomName(random).toLowerCase();
+            String second = randomName(random).toLowerCase();
+            assertEquals(first + " / " + second, FuzzySearch.ratio(first, second), NameSimilarity.ratio(first.toCharArray(), second.toCharArray()));
+        }
+    }
+
+    @Test
+    public void isRatioAbove_RandomCamelCaseAndSnakeCaseNames_ShouldGiveSameVerdictsAsFuzzySearch() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String first = randomName(random).toLowerCase();
+            String second = randomName(random).toLowerCase();
+            for (int minRatio : MIN_RATIOS) {
+                assertEquals(first + " / " + second + " / " + minRatio,
+                        FuzzySearch.ratio(first, second) > minRatio,
+                        NameSimilarity.isRatioAbove(first.toCharArray(), second.toCharArray(), minRatio));
+            }
+        }
+    }
+
+    @Test
+    public void getNormalizedName_CamelCaseMethodName_ShouldReturnLowerCaseName() {
+        PsiMethod method = createMethodsFile().getClasses()[0].findMethodsByName("getUserName", false)[0];
+
+        assertArrayEquals("getusername".toCharArray(), NameSimilarity.getNormalizedName(method));
+    }
+
+    @Test
+    public void getNormalizedName_MethodRenamedAfterNormalization_ShouldReturnNewName() {
+        PsiJavaFile psiJavaFile = createMethodsFile();
+        NameSimilarity.getNormalizedName(psiJavaFile.getClasses()[0].findMethodsByName("getUserName", false)[0]);
+        PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = psiDocumentManager.getDocument(psiJavaFile);
+        document.setText(document.getText().replace("getUserName", "getUserCount"));
+        psiDocumentManager.commitDocument(document);
+
+        PsiMethod renamedMethod = psiJavaFile.getClasses()[0].findMethodsByName("getUserCount", false)[0];
+
+        assertArrayEquals("getusercount".toCharArray(), NameSimilarity.getNormalizedName(renamedMethod));
+    }
+
+    private PsiJavaFile createMethodsFile() {
+        return (PsiJavaFile) myFixture.addFileToProject("Names.java",
+                "public class Names {\n    public String getUserName() {\n        return null;\n    }\n}");
+    }
+
+    private String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int parts = 1 + random.nextInt(4);
+        for (int i = 0; i < parts; i++) {
+            name.append(NAME_PARTS[random.nextInt(NAME_PARTS.length)]);
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolutionCacheTest extends HeavyTestBase {
+
+    private PsiJavaFile psiJavaFile;
+    private PsiMethod runMethod;
+    private PsiMethodCallExpression runCall;
+
+    @BeforeEach
+    public void beforeEach() {
+        psiJavaFile = (PsiJavaFile) myFixture.addFileToProject("Test.java",
+                "public class Test {\n" +
+                        "    public void test() { run(); }\n" +
+                        "    public void run() { }\n" +
+                        "    public void stop() { }\n" +
+                        "}");
+        runMethod = psiJavaFile.getClasses()[0].findMethodsByName("run", false)[0];
+        runCall = PsiTreeUtil.findChildOfType(psiJavaFile, PsiMethodCallExpression.class);
+    }
+
+    @Test
+    public void resolveMethod_MethodCall_ShouldResolveCalledMethod() {
+        assertSame(runMethod, ResolutionCache.resolveMethod(runCall));
+    }
+
+    @Test
+    public void resolve_MethodReferenceExpression_ShouldResolveReferencedMethod() {
+        assertSame(runMethod, ResolutionCache.resolve(runCall.getMethodExpression()));
+    }
+
+    @Test
+    public void resolveMethod_SameCallResolvedTwice_ShouldResolveOnlyOnce() {
+        ResolutionCache.resolveMethod(runCall);
+        ResolutionCache.resolveMethod(runCall);
+
+        assertEquals(1, ResolutionCache.getInstance(psiJavaFile).getResolveCount());
+    }
+
+    @Test
+    public void resolveMethod_SameCallResolvedTwice_ShouldCountSavedResolve() {
+        ResolutionCache.resolveMethod(runCall);
+        ResolutionCache.resolveMethod(runCall);
+
+        assertEquals(1, ResolutionCache.getInstance(psiJavaFile).getSavedResolveCount());
+    }
+
+    @Test
+    public void resolveMethod_FileChangedAfterResolve_ShouldResolveChangedCall() {
+        ResolutionCache.resolveMethod(runCall);
+        PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = psiDocumentManager.getDocument(psiJavaFile);
+        document.setText(document.getText().replace("run();", "stop();"));
+        psiDocumentManager.commitDocument(document);
+
+        PsiMethodCallExpression stopCall = PsiTreeUtil.findChildOfType(psiJavaFile, PsiMethodCallExpression.class);
+
+        assertSame(psiJavaFile.getClasses()[0].findMethodsByName("stop", false)[0], ResolutionCache.resolveMethod(stopCall));
+    }
+
+    @Test
+    public void getInstance_FileChanged_ShouldReturnNewCache() {
+        ResolutionCache resolutionCache = ResolutionCache.getInstance(psiJavaFile);
+        PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = psiDocumentManager.getDocument(psiJavaFile);
+        document.setText(document.getText().replace("run();", "stop();"));
+        psiDocumentManager.commitDocument(document);
+
+        assertNotSame(resolutionCache, ResolutionCache.getInstance(psiJavaFile));
+    }
+}
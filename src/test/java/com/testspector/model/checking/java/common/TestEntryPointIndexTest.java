@@ -0,0 +1,55 @@
+package com.testspector.model.checking.java.common;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TestEntryPointIndexTest extends HeavyTestBase {
+
+    private TestEntryPointIndex testEntryPointIndex;
+    private PsiFile psiFile;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        testEntryPointIndex = new TestEntryPointIndex(myFixture.getProject());
+        psiFile = myFixture.addFileToProject("CallingTest.java", loadFileContentFromResources("testEntryPointIndexTest/CallingTest.java"));
+    }
+
+    @Test
+    public void getCallingMethods_FileCallsMethodFromTwoMethods_ShouldReturnBothCallingMethods() {
+        Set<PsiMethod> callingMethods = testEntryPointIndex.getCallingMethods(psiFile, getMethodKey("helper"));
+
+        assertEquals(new HashSet<>(Arrays.asList(findMethod("firstTest"), findMethod("secondTest"))), callingMethods);
+    }
+
+    @Test
+    public void getCallingMethods_FileChangedToCallMethodFromAnotherMethod_ShouldReturnNewCallingMethod() {
+        testEntryPointIndex.getCallingMethods(psiFile, getMethodKey("helper"));
+        Document document = PsiDocumentManager.getInstance(myFixture.getProject()).getDocument(psiFile);
+        document.setText(document.getText().replace("public void unrelated() {", "public void unrelated() {\n        helper();"));
+        PsiDocumentManager.getInstance(myFixture.getProject()).commitDocument(document);
+
+        Set<PsiMethod> callingMethods = testEntryPointIndex.getCallingMethods(psiFile, getMethodKey("helper"));
+
+        assertEquals(new HashSet<>(Arrays.asList(findMethod("firstTest"), findMethod("secondTest"), findMethod("unrelated"))), callingMethods);
+    }
+
+    private String getMethodKey(String methodName) {
+        return TestEntryPointIndex.getMethodKey(findMethod(methodName));
+    }
+
+    private PsiMethod findMethod(String methodName) {
+        return ((PsiJavaFile) psiFile).getClasses()[0].findMethodsByName(methodName, false)[0];
+    }
+}
@@ -3,11 +3,16 @@ package com.testspector.model.checking.java.common.search;
 import com.intellij.lang.Language;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.file.PsiPackageBase;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.testspector.model.checking.java.JavaTest;
+import com.testspector.model.checking.java.common.JavaContextIndicator;
+import org.easymock.EasyMock;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -193,6 +198,182 @@ public class ElementSearchEngineTest extends JavaTest {
         assertTrue(result.getElementsFromAllLevels().isEmpty());
     }
 
+    @Test
+    public void findByQueries_searchingForTryAndIfStatementsWithReferencesAndReferencedMethodContainsBoth_ShouldReturnResultsForBothQueriesFromOneSearch() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod searchStartElement = (PsiMethod) psiClass.add(this.javaTestElementUtil
+                .createMethod("testMethod", "String", Collections.singletonList("public")));
+        String referencedMethodName = "referencedMethod";
+        PsiMethod referencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil
+                .createMethod(referencedMethodName, "String", Collections.singletonList("public")));
+        PsiTryStatement psiTryStatement = (PsiTryStatement) referencedMethod.getBody().add(this.psiElementFactory
+                .createStatementFromText("try {}catch (Exception e){}", null));
+        PsiIfStatement psiIfStatement = (PsiIfStatement) searchStartElement.getBody().add(this.psiElementFactory
+                .createStatementFromText("if(true){}", null));
+        searchStartElement.getBody().add(this.psiElementFactory
+                .createExpressionFromText(String.format("%s()", referencedMethodName), psiClass));
+
+        ElementSearchFacts facts = javaElementResolver.findByQueries(
+                searchStartElement, Arrays.asList(FIND_ALL_TRY_STATEMENTS, FIND_ALL_IF_STATEMENTS));
+
+        assertAll(
+                () -> assertSame(psiTryStatement, facts.getResult(FIND_ALL_TRY_STATEMENTS).getElementsFromAllLevels().get(0)),
+                () -> assertSame(psiIfStatement, facts.getResult(FIND_ALL_IF_STATEMENTS).getElementsFromAllLevels().get(0)),
+                () -> assertSame(facts.getResult(FIND_ALL_TRY_STATEMENTS), javaElementResolver.findByQuery(searchStartElement, FIND_ALL_TRY_STATEMENTS))
+        );
+    }
+
+    @Test
+    public void allChildrenOfType_searchingForTryStatementWithReferenceDepthLimitAndTryStatementIsInTheReferencedMethod_ShouldReturnEmptyPartialResult() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod searchStartElement = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("testMethod", "String", Collections.singletonList("public")));
+        String referencedMethodName = "referencedMethod";
+        PsiMethod referencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod(referencedMethodName, "String", Collections.singletonList("public")));
+        referencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("try {}catch (Exception e){}", null));
+        searchStartElement.getBody().add(this.psiElementFactory.createExpressionFromText(String.format("%s()", referencedMethodName), psiClass));
+        ElementSearchQuery<PsiTryStatement> findTryStatementsWithoutNestedReferences = new ElementSearchQueryBuilder<PsiTryStatement>()
+                .elementOfType(PsiTryStatement.class)
+                .withReferences()
+                .maxReferenceDepth(0)
+                .build();
+
+        ElementSearchResult<PsiTryStatement> result = javaElementResolver.findByQuery(searchStartElement, findTryStatementsWithoutNestedReferences);
+
+        assertAll(
+                () -> assertTrue(result.getElementsFromAllLevels().isEmpty()),
+                () -> assertTrue(result.isPartial())
+        );
+    }
+
+    @Test
+    public void allChildrenOfType_searchingForTryStatementInMethodFirstReachedBeyondReferenceDepthLimitAndThenReferencedDirectly_ShouldReturnTryStatement() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod searchStartElement = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("testMethod", "String", Collections.singletonList("public")));
+        PsiMethod firstReferencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("firstReferencedMethod", "String", Collections.singletonList("public")));
+        PsiMethod secondReferencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("secondReferencedMethod", "String", Collections.singletonList("public")));
+        PsiTryStatement psiTryStatement = (PsiTryStatement) secondReferencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("try {}catch (Exception e){}", null));
+        firstReferencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("secondReferencedMethod();", psiClass));
+        searchStartElement.getBody().add(this.psiElementFactory.createStatementFromText("firstReferencedMethod();", psiClass));
+        searchStartElement.getBody().add(this.psiElementFactory.createStatementFromText("secondReferencedMethod();", psiClass));
+        ElementSearchQuery<PsiTryStatement> findTryStatementsWithOneReferenceLevel = new ElementSearchQueryBuilder<PsiTryStatement>()
+                .elementOfType(PsiTryStatement.class)
+                .withReferences()
+                .maxReferenceDepth(1)
+                .build();
+
+        ElementSearchResult<PsiTryStatement> result = javaElementResolver.findByQuery(searchStartElement, findTryStatementsWithOneReferenceLevel);
+
+        assertEquals(Collections.singletonList(psiTryStatement), result.getElementsFromAllLevels());
+    }
+
+    @Test
+    public void findFirst_searchingForTryStatementInMethodFirstReachedBeyondReferenceDepthLimitAndThenReferencedDirectly_ShouldReturnTryStatement() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod searchStartElement = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("testMethod", "String", Collections.singletonList("public")));
+        PsiMethod firstReferencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("firstReferencedMethod", "String", Collections.singletonList("public")));
+        PsiMethod secondReferencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("secondReferencedMethod", "String", Collections.singletonList("public")));
+        PsiTryStatement psiTryStatement = (PsiTryStatement) secondReferencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("try {}catch (Exception e){}", null));
+        firstReferencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("secondReferencedMethod();", psiClass));
+        searchStartElement.getBody().add(this.psiElementFactory.createStatementFromText("firstReferencedMethod();", psiClass));
+        searchStartElement.getBody().add(this.psiElementFactory.createStatementFromText("secondReferencedMethod();", psiClass));
+        ElementSearchQuery<PsiTryStatement> findTryStatementsWithOneReferenceLevel = new ElementSearchQueryBuilder<PsiTryStatement>()
+                .elementOfType(PsiTryStatement.class)
+                .withReferences()
+                .maxReferenceDepth(1)
+                .build();
+
+        assertSame(psiTryStatement, javaElementResolver.findFirst(searchStartElement, findTryStatementsWithOneReferenceLevel).orElse(null));
+    }
+
+    @Test
+    public void allChildrenOfType_searchingForTryStatementRequiringFactAndTryStatementIsInReferencedLocalVariable_ShouldReturnTryStatement() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod method = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("testMethod", "void", Collections.singletonList("public")));
+        PsiDeclarationStatement declarationStatement = (PsiDeclarationStatement) method.getBody().add(this.psiElementFactory
+                .createStatementFromText("Runnable runnable = () -> { try {} catch (Exception e) {} };", method.getBody()));
+        PsiStatement searchStartElement = (PsiStatement) method.getBody().add(this.psiElementFactory
+                .createStatementFromText("runnable.run();", method.getBody()));
+        ElementSearchQuery<PsiTryStatement> findTryStatementsThroughLocalVariables = new ElementSearchQueryBuilder<PsiTryStatement>()
+                .elementOfType(PsiTryStatement.class)
+                .whereReferences(element -> element instanceof PsiLocalVariable)
+                .requiringFact(HelperMethodFact.TRY_CATCH)
+                .build();
+
+        ElementSearchResult<PsiTryStatement> result = javaElementResolver.findByQuery(searchStartElement, findTryStatementsThroughLocalVariables);
+
+        assertEquals(Collections.singletonList(PsiTreeUtil.findChildOfType(declarationStatement, PsiTryStatement.class)), result.getElementsFromAllLevels());
+    }
+
+    @Test
+    public void findFirst_searchingForTryStatementWhichIsInTheReferencedMethod_ShouldReturnItAndExist() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod searchStartElement = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("testMethod", "String", Collections.singletonList("public")));
+        String referencedMethodName = "referencedMethod";
+        PsiMethod referencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod(referencedMethodName, "String", Collections.singletonList("public")));
+        PsiTryStatement psiTryStatement = (PsiTryStatement) referencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("try {}catch (Exception e){}", null));
+        searchStartElement.getBody().add(this.psiElementFactory.createExpressionFromText(String.format("%s()", referencedMethodName), psiClass));
+
+        assertAll(
+                () -> assertSame(psiTryStatement, javaElementResolver.findFirst(searchStartElement, FIND_ALL_TRY_STATEMENTS).get()),
+                () -> assertTrue(javaElementResolver.exists(searchStartElement, FIND_ALL_TRY_STATEMENTS)),
+                () -> assertFalse(javaElementResolver.exists(searchStartElement, FIND_ALL_IF_STATEMENTS))
+        );
+    }
+
+    @Test
+    public void findFirst_searchingForTryStatementWhichIsInTheFirstOfTwoReferencedMethods_ShouldNotVisitTheSecondReferencedMethod() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod searchStartElement = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("testMethod", "String", Collections.singletonList("public")));
+        PsiMethod firstReferencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("firstReferencedMethod", "String", Collections.singletonList("public")));
+        PsiMethod secondReferencedMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("secondReferencedMethod", "String", Collections.singletonList("public")));
+        firstReferencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("try {}catch (Exception e){}", null));
+        secondReferencedMethod.getBody().add(this.psiElementFactory.createStatementFromText("try {}catch (Exception e){}", null));
+        searchStartElement.getBody().add(this.psiElementFactory.createStatementFromText("firstReferencedMethod();", psiClass));
+        searchStartElement.getBody().add(this.psiElementFactory.createStatementFromText("secondReferencedMethod();", psiClass));
+        List<PsiElement> visitedReferences = new ArrayList<>();
+        ElementSearchQuery<PsiTryStatement> findTryStatementsRecordingReferences = new ElementSearchQueryBuilder<PsiTryStatement>()
+                .elementOfType(PsiTryStatement.class)
+                .whereReferences(element -> visitedReferences.add(element))
+                .build();
+
+        javaElementResolver.findFirst(searchStartElement, findTryStatementsRecordingReferences);
+
+        assertEquals(Collections.singletonList(firstReferencedMethod), visitedReferences);
+    }
+
+    @Test
+    public void allChildrenOfType_searchingForConditionalStatementsAndElementContainsForAndTryStatement_ShouldReturnOnlyForStatement() {
+        PsiMethod method = this.javaTestElementUtil.createMethod("testMethod", "String", Collections.singletonList("public"));
+        PsiForStatement psiForStatement = (PsiForStatement) method.getBody().add(this.psiElementFactory.createStatementFromText("for(int i = 0; i < 1; i++){}", null));
+        method.getBody().add(this.psiElementFactory.createStatementFromText("try {}catch (Exception e){}", null));
+        method.getBody().add(this.psiElementFactory.createCommentFromText("// if(true){}", null));
+
+        ElementSearchResult<PsiStatement> result = javaElementResolver.findByQuery(method, QueriesRepository.FIND_ALL_CONDITIONAL_STATEMENTS);
+
+        assertAll(
+                () -> assertEquals(Collections.singletonList(psiForStatement), result.getElementsFromAllLevels()),
+                () -> assertTrue(QueriesRepository.FIND_ALL_CONDITIONAL_STATEMENTS.canPrune(method.getBody().getLBrace())),
+                () -> assertFalse(QueriesRepository.FIND_ALL_STATIC_PROPS.canPrune(method.getBody().getLBrace()))
+        );
+    }
+
+    @Test
+    public void allChildrenOfType_searchingForStaticPropsAndMethodReferencesStaticFinalAndStaticField_ShouldReturnOnlyStaticField() {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiField mutableStaticField = (PsiField) psiClass.add(this.psiElementFactory.createFieldFromText("private static String mutableState = \"\";", psiClass));
+        psiClass.add(this.psiElementFactory.createFieldFromText("private static final String CONSTANT = \"\";", psiClass));
+        PsiMethod searchStartElement = (PsiMethod) psiClass.add(this.javaTestElementUtil.createMethod("testMethod", "String", Collections.singletonList("public")));
+        searchStartElement.getBody().add(this.psiElementFactory.createStatementFromText("String value = mutableState + CONSTANT;", psiClass));
+        JavaContextIndicator contextIndicator = EasyMock.mock(JavaContextIndicator.class);
+        EasyMock.expect(contextIndicator.isInTestContext()).andReturn(element -> true).anyTimes();
+        EasyMock.expect(contextIndicator.isInProductionCodeContext()).andReturn(element -> false).anyTimes();
+        EasyMock.replay(contextIndicator);
+
+        ElementSearchResult<PsiField> result = new ElementSearchEngine(contextIndicator).findByQuery(searchStartElement, QueriesRepository.FIND_ALL_STATIC_PROPS);
+
+        assertEquals(Collections.singletonList(mutableStaticField), result.getElementsFromAllLevels());
+    }
+
     @Test
     public void allChildrenOfType_searchingForIfStatementInPsiPackageBase_ShouldReturnEmptyList() {
         PsiPackageBase searchStartElement = createSomePsiPackageBase();
@@ -0,0 +1,59 @@
+package com.testspector.model.checking.java.common.search;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementSearchResultUtilsTest {
+
+    @Test
+    public void filterResult_ConditionMatchingAllElements_ShouldReturnSameResult() {
+        ElementSearchResult<String> result = createResultWithSharedReferencedResult(Collections.singletonList("helper"), "test");
+
+        assertSame(result, ElementSearchResultUtils.filterResult(element -> true, result));
+    }
+
+    @Test
+    public void getElementsFromAllLevels_SharedReferencedResult_ShouldContainElementsOfEachReference() {
+        ElementSearchResult<String> result = createResultWithSharedReferencedResult(Collections.singletonList("helper"), "test");
+
+        assertEquals(Arrays.asList("test", "helper", "helper"), result.getElementsFromAllLevels());
+    }
+
+    @Test
+    public void getElementsFromAllLevels_CalledTwice_ShouldReturnMemoizedList() {
+        ElementSearchResult<String> result = createResultWithSharedReferencedResult(Collections.singletonList("helper"), "test");
+
+        assertSame(result.getElementsFromAllLevels(), result.getElementsFromAllLevels());
+    }
+
+    @Test
+    public void filterResult_SharedReferencedResult_ShouldKeepOnlyMatchingElements() {
+        ElementSearchResult<String> result = createResultWithSharedReferencedResult(Arrays.asList("keep", "drop"), "drop");
+
+        ElementSearchResult<String> filteredResult = ElementSearchResultUtils.filterResult("keep"::equals, result);
+
+        assertEquals(Arrays.asList("keep", "keep"), filteredResult.getElementsFromAllLevels());
+    }
+
+    @Test
+    public void filterResult_SharedReferencedResult_ShouldStayShared() {
+        ElementSearchResult<String> result = createResultWithSharedReferencedResult(Arrays.asList("keep", "drop"), "drop");
+
+        ElementSearchResult<String> filteredResult = ElementSearchResultUtils.filterResult("keep"::equals, result);
+
+        assertSame(filteredResult.getReferencedResults().get(0).getRight(), filteredResult.getReferencedResults().get(1).getRight());
+    }
+
+    private ElementSearchResult<String> createResultWithSharedReferencedResult(List<String> referencedElements, String element) {
+        ElementSearchResult<String> referencedResult = new ElementSearchResult<>(Collections.emptyList(), referencedElements);
+        return new ElementSearchResult<>(
+                Arrays.asList(Pair.of(null, referencedResult), Pair.of(null, referencedResult)),
+                Collections.singletonList(element));
+    }
+}
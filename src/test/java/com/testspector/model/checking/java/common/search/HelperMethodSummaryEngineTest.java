@@ -0,0 +1,115 @@
+package com.testspector.model.checking.java.common.search;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.testspector.model.checking.java.JavaTest;
+import com.testspector.model.checking.java.common.JavaContextIndicator;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.EnumSet;
+
+public class HelperMethodSummaryEngineTest extends JavaTest {
+
+    private HelperMethodSummaryEngine summaryEngine;
+
+    @BeforeEach
+    public void beforeEach() {
+        this.summaryEngine = new ElementSearchEngine().getSearchContext().getSummaryEngine();
+    }
+
+    @Test
+    public void getSummary_methodContainsIfStatement_ShouldReturnSummaryWithConditionalLogic() {
+        PsiMethod helperMethod = createHelperMethodWithStatements("if(true){}");
+
+        assertTrue(summaryEngine.getSummary(helperMethod).hasFact(HelperMethodFact.CONDITIONAL_LOGIC));
+    }
+
+    @Test
+    public void getSummary_methodContainsTryStatement_ShouldReturnSummaryWithTryCatch() {
+        PsiMethod helperMethod = createHelperMethodWithStatements("try {}catch (Exception e){}");
+
+        assertTrue(summaryEngine.getSummary(helperMethod).hasFact(HelperMethodFact.TRY_CATCH));
+    }
+
+    @Test
+    public void getSummary_methodContainsOnlyIfAndTryStatement_ShouldReturnSummaryWithoutOtherFacts() {
+        PsiMethod helperMethod = createHelperMethodWithStatements("if(true){}", "try {}catch (Exception e){}");
+
+        assertEquals(EnumSet.of(HelperMethodFact.CONDITIONAL_LOGIC, HelperMethodFact.TRY_CATCH), summaryEngine.getSummary(helperMethod).getFacts());
+    }
+
+    @Test
+    public void getSummary_methodWithoutStatements_ShouldReturnSummaryWithoutFacts() {
+        PsiMethod helperMethod = this.javaTestElementUtil
+                .createMethod("helperMethod", "String", Collections.singletonList("public"));
+
+        assertTrue(summaryEngine.getSummary(helperMethod).getFacts().isEmpty());
+    }
+
+    @Test
+    public void callsHelperWithFact_MethodCallsHelperWithTryStatement_ShouldReturnTrue() throws Exception {
+        PsiJavaFile psiJavaFile = createHelperCallingTestFile();
+
+        assertTrue(createTestContextSummaryEngine().callsHelperWithFact(findMethod(psiJavaFile, "testCallingHelper"), HelperMethodFact.TRY_CATCH));
+    }
+
+    @Test
+    public void callsHelperWithFact_MethodCallsNoHelper_ShouldReturnFalse() throws Exception {
+        PsiJavaFile psiJavaFile = createHelperCallingTestFile();
+
+        assertFalse(createTestContextSummaryEngine().callsHelperWithFact(findMethod(psiJavaFile, "testWithoutHelpers"), HelperMethodFact.TRY_CATCH));
+    }
+
+    @Test
+    public void callsHelperWithFact_FileContainsMethodCallingHelperWithTryStatement_ShouldReturnTrue() throws Exception {
+        PsiJavaFile psiJavaFile = createHelperCallingTestFile();
+
+        assertTrue(createTestContextSummaryEngine().callsHelperWithFact(psiJavaFile, HelperMethodFact.TRY_CATCH));
+    }
+
+    @Test
+    public void callsHelperWithFact_MethodChangedToCallHelperWithTryStatement_ShouldReturnTrue() throws Exception {
+        PsiJavaFile psiJavaFile = createHelperCallingTestFile();
+        HelperMethodSummaryEngine testContextSummaryEngine = createTestContextSummaryEngine();
+        testContextSummaryEngine.callsHelperWithFact(findMethod(psiJavaFile, "testWithoutHelpers"), HelperMethodFact.TRY_CATCH);
+        PsiDocumentManager psiDocumentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = psiDocumentManager.getDocument(psiJavaFile);
+        document.setText(document.getText().replace("int value = 1;", "helper();"));
+        psiDocumentManager.commitDocument(document);
+
+        assertTrue(testContextSummaryEngine.callsHelperWithFact(findMethod(psiJavaFile, "testWithoutHelpers"), HelperMethodFact.TRY_CATCH));
+    }
+
+    private PsiMethod createHelperMethodWithStatements(String... statements) {
+        PsiClass psiClass = this.psiElementFactory.createClass("Test");
+        PsiMethod helperMethod = (PsiMethod) psiClass.add(this.javaTestElementUtil
+                .createMethod("helperMethod", "String", Collections.singletonList("public")));
+        for (String statement : statements) {
+            helperMethod.getBody().add(this.psiElementFactory.createStatementFromText(statement, null));
+        }
+        return helperMethod;
+    }
+
+    private HelperMethodSummaryEngine createTestContextSummaryEngine() {
+        JavaContextIndicator contextIndicator = EasyMock.mock(JavaContextIndicator.class);
+        EasyMock.expect(contextIndicator.isInTestContext()).andReturn(element -> true).anyTimes();
+        EasyMock.expect(contextIndicator.isInProductionCodeContext()).andReturn(element -> false).anyTimes();
+        EasyMock.replay(contextIndicator);
+        return new ElementSearchEngine(contextIndicator).getSearchContext().getSummaryEngine();
+    }
+
+    private PsiJavaFile createHelperCallingTestFile() throws Exception {
+        return (PsiJavaFile) myFixture.addFileToProject("HelperCallingTest.java",
+                loadFileContentFromResources("helperMethodSummaryEngineTest/HelperCallingTest.java"));
+    }
+
+    private PsiMethod findMethod(PsiJavaFile psiJavaFile, String methodName) {
+        return psiJavaFile.getClasses()[0].findMethodsByName(methodName, false)[0];
+    }
+}
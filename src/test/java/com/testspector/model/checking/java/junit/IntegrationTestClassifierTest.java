@@ -0,0 +1,105 @@
+package com.testspector.model.checking.java.junit;
+
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.testspector.model.checking.java.JavaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegrationTestClassifierTest extends JavaTest {
+
+    private IntegrationTestClassifier classifier;
+
+    @BeforeEach
+    public void beforeEach() {
+        classifier = new IntegrationTestClassifier(myFixture.getProject());
+    }
+
+    @Test
+    public void isIntegrationTestFile_FileNameMatchesDefaultRules_ShouldReturnTrue() {
+        assertTrue(classifier.isIntegrationTestFile(createFile("SomeIT.java", "com.testspector")));
+    }
+
+    @Test
+    public void isIntegrationTestFile_PackageMatchesDefaultRules_ShouldReturnTrue() {
+        assertTrue(classifier.isIntegrationTestFile(createFile("SomeTest.java", "com.testspector.it")));
+    }
+
+    @Test
+    public void isIntegrationTestFile_NeitherFileNameNorPackageMatchesDefaultRules_ShouldReturnFalse() {
+        assertFalse(classifier.isIntegrationTestFile(createFile("SomeTest.java", "com.testspector.unit")));
+    }
+
+    @Test
+    public void isIntegrationTestFile_RulesChangedToMatchFileName_ShouldReturnTrue() {
+        PsiJavaFile psiJavaFile = createFile("SomeTest.java", "com.testspector.unit");
+        classifier.isIntegrationTestFile(psiJavaFile);
+
+        classifier.loadState(createRulesWithFileNameGlob("*Test.java"));
+
+        assertTrue(classifier.isIntegrationTestFile(psiJavaFile));
+    }
+
+    @Test
+    public void hasIntegrationTag_TagMatchesDefaultRules_ShouldReturnTrue() {
+        assertTrue(classifier.hasIntegrationTag(createTaggedMethod("integration")));
+    }
+
+    @Test
+    public void hasIntegrationTag_TagDoesNotMatchDefaultRules_ShouldReturnFalse() {
+        assertFalse(classifier.hasIntegrationTag(createTaggedMethod("slow")));
+    }
+
+    @Test
+    public void hasIntegrationTag_RulesChangedToMatchTag_ShouldReturnTrue() {
+        PsiMethod slowTest = createTaggedMethod("slow");
+        classifier.hasIntegrationTag(slowTest);
+
+        classifier.loadState(createRulesWithTagGlob("slow"));
+
+        assertTrue(classifier.hasIntegrationTag(slowTest));
+    }
+
+    @Test
+    public void isIntegrationTestElement_MethodTagMatchesUserDefinedRule_ShouldReturnTrue() {
+        PsiMethod slowTest = createTaggedMethod("slow");
+
+        classifier.loadState(createRulesWithTagGlob("slow"));
+
+        assertTrue(classifier.isIntegrationTestElement(slowTest));
+    }
+
+    @Test
+    public void loadState_RulesChanged_ShouldChangeRulesModificationCount() {
+        long modificationCount = classifier.getRulesModificationTracker().getModificationCount();
+
+        classifier.loadState(createRulesWithTagGlob("slow"));
+
+        assertNotEquals(modificationCount, classifier.getRulesModificationTracker().getModificationCount());
+    }
+
+    private IntegrationTestClassifier.Rules createRulesWithTagGlob(String tagGlob) {
+        IntegrationTestClassifier.Rules rules = new IntegrationTestClassifier.Rules();
+        rules.tagGlobs = Collections.singletonList(tagGlob);
+        return rules;
+    }
+
+    private IntegrationTestClassifier.Rules createRulesWithFileNameGlob(String fileNameGlob) {
+        IntegrationTestClassifier.Rules rules = new IntegrationTestClassifier.Rules();
+        rules.fileNameGlobs = Collections.singletonList(fileNameGlob);
+        return rules;
+    }
+
+    private PsiMethod createTaggedMethod(String tag) {
+        return javaTestElementUtil.createTestMethod("someTest",
+                Collections.singletonList(String.format("@org.junit.jupiter.api.Tag(\"%s\")", tag)));
+    }
+
+    private PsiJavaFile createFile(String fileName, String packageName) {
+        return javaTestElementUtil.createFile(fileName, packageName, Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -2,8 +2,13 @@ package com.testspector.model.checking.java.junit;
 
 import com.intellij.psi.PsiElement;
 import com.testspector.model.checking.BestPracticeCheckingStrategy;
+import com.testspector.model.enums.BestPractice;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JUnitBestPracticeCheckingStrategyFactoryTest {
@@ -17,4 +22,18 @@ class JUnitBestPracticeCheckingStrategyFactoryTest {
 
         assertTrue(optionalBestPracticeCheckingStrategy instanceof JUnitGroupBestPracticeCheckingStrategy);
     }
+
+    @Test
+    public void getBestPracticeCheckingStrategy_SameBestPractices_ShouldReturnSameStrategy() {
+        JUnitBestPracticeCheckingStrategyFactory jUnitBestPracticeCheckingStrategyFactory = new JUnitBestPracticeCheckingStrategyFactory();
+
+        BestPracticeCheckingStrategy<PsiElement> first = jUnitBestPracticeCheckingStrategyFactory
+                .getBestPracticeCheckingStrategy(EnumSet.of(BestPractice.NO_CONDITIONAL_LOGIC, BestPractice.AT_LEAST_ONE_ASSERTION));
+        BestPracticeCheckingStrategy<PsiElement> second = jUnitBestPracticeCheckingStrategyFactory
+                .getBestPracticeCheckingStrategy(EnumSet.of(BestPractice.AT_LEAST_ONE_ASSERTION, BestPractice.NO_CONDITIONAL_LOGIC));
+
+        assertSame(first, second);
+        assertSame(jUnitBestPracticeCheckingStrategyFactory.getBestPracticeCheckingStrategy(BestPractice.NO_CONDITIONAL_LOGIC),
+                jUnitBestPracticeCheckingStrategyFactory.getBestPracticeCheckingStrategy(Collections.singleton(BestPractice.NO_CONDITIONAL_LOGIC)));
+    }
 }
@@ -0,0 +1,58 @@
+package com.testspector.model.checking.java.junit;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.testspector.model.checking.java.JavaTest;
+import com.testspector.model.checking.java.common.JavaMethodResolver;
+import com.testspector.model.checking.java.common.search.ElementSearchEngine;
+import com.testspector.model.checking.java.common.search.HelperMethodSummaryEngine;
+import com.testspector.model.checking.java.junit.strategy.JUnitBestPracticeCheckingStrategy;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+class JUnitTestMethodBestPracticeCheckingStrategyAdapterTest extends JavaTest {
+
+    private JUnitBestPracticeCheckingStrategy strategy;
+    private JavaMethodResolver methodResolver;
+    private ElementSearchEngine elementSearchEngine;
+    private HelperMethodSummaryEngine summaryEngine;
+
+    @BeforeEach
+    public void beforeEach() {
+        strategy = EasyMock.mock(JUnitBestPracticeCheckingStrategy.class);
+        methodResolver = EasyMock.mock(JavaMethodResolver.class);
+        elementSearchEngine = EasyMock.mock(ElementSearchEngine.class);
+        summaryEngine = EasyMock.mock(HelperMethodSummaryEngine.class);
+        EasyMock.replay(strategy, methodResolver, elementSearchEngine, summaryEngine);
+    }
+
+    @Test
+    public void checkBestPractices_IntegrationTestFile_ShouldReturnNoViolations() {
+        PsiJavaFile psiJavaFile = createFileWithTestMethod("SomeIT.java");
+
+        assertTrue(createAdapter().checkBestPractices(psiJavaFile).isEmpty());
+    }
+
+    @Test
+    public void checkBestPractices_IntegrationTestFile_ShouldNotAnalyzeFileContent() {
+        PsiJavaFile psiJavaFile = createFileWithTestMethod("SomeIT.java");
+
+        createAdapter().checkBestPractices(psiJavaFile);
+
+        EasyMock.verify(strategy, methodResolver, elementSearchEngine, summaryEngine);
+    }
+
+    private JUnitTestMethodBestPracticeCheckingStrategyAdapter createAdapter() {
+        return new JUnitTestMethodBestPracticeCheckingStrategyAdapter(strategy, methodResolver, elementSearchEngine, summaryEngine);
+    }
+
+    private PsiJavaFile createFileWithTestMethod(String fileName) {
+        PsiJavaFile psiJavaFile = javaTestElementUtil.createFile(fileName, "com.testspector", Collections.emptyList(), Collections.emptyList());
+        PsiClass testClass = (PsiClass) psiJavaFile.add(psiElementFactory.createClass("SomeIT"));
+        testClass.add(javaTestElementUtil.createTestMethod("someTest", Collections.singletonList("@org.junit.jupiter.api.Test")));
+        return psiJavaFile;
+    }
+}
@@ -77,4 +77,15 @@ public class JUnitUnitTestFrameworkFactoryTest extends JavaTest {
 
         assertFalse(optionalUnitTestFramework.isPresent());
     }
+
+    @Test
+    public void getUnitTestFramework_FileInModuleWithoutJUnit_ShouldBeEmpty() {
+        PsiFile psiFile = myFixture.addFileToProject("SomeTest.java", "import org.junit.Test;\npublic class SomeTest {\n@Test\npublic void someTest(){}\n}");
+        EasyMock.expect(this.contextIndicator.isInTestContext()).andReturn(element -> true).times(1);
+        EasyMock.replay(contextIndicator);
+
+        Optional<UnitTestFramework> optionalUnitTestFramework = jUnitUnitTestFrameworkFactory.getUnitTestFramework(psiFile);
+
+        assertFalse(optionalUnitTestFramework.isPresent());
+    }
 }
@@ -0,0 +1,55 @@
+package com.testspector.model.checking.java.junit;
+
+import com.intellij.openapi.roots.ex.ProjectRootManagerEx;
+import com.intellij.openapi.util.EmptyRunnable;
+import com.intellij.psi.PsiFile;
+import com.testspector.HeavyTestBase;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestLibraryProfileTest extends HeavyTestBase {
+
+    @Test
+    public void getInstance_SameModuleTwice_ShouldReturnSameProfile() {
+        PsiFile psiFile = createProductionFile();
+
+        assertSame(TestLibraryProfile.getInstance(psiFile), TestLibraryProfile.getInstance(psiFile));
+    }
+
+    @Test
+    public void getInstance_ModuleWithoutJUnit5_ShouldReturnProfileWithoutJUnit5() {
+        assertFalse(TestLibraryProfile.getInstance(createProductionFile()).isJUnit5Available());
+    }
+
+    @Test
+    public void getInstance_ModuleWithoutAssertJ_ShouldReturnProfileWithoutAssertJ() {
+        assertFalse(TestLibraryProfile.getInstance(createProductionFile()).isAssertJAvailable());
+    }
+
+    @Test
+    public void getInstance_ModuleWithoutJUnit5_ShouldReturnProfileWithoutJUnit5Version() {
+        assertFalse(TestLibraryProfile.getInstance(createProductionFile()).getJUnit5Version().isPresent());
+    }
+
+    @Test
+    public void getInstance_FileWithoutModule_ShouldReturnEmptyProfile() {
+        PsiFile psiFile = psiFileFactory.createFileFromText("Other.java", "public class Other {}");
+
+        assertSame(TestLibraryProfile.EMPTY, TestLibraryProfile.getInstance(psiFile));
+    }
+
+    @Test
+    public void getInstance_ProjectRootsChanged_ShouldReturnRecomputedProfile() {
+        PsiFile psiFile = createProductionFile();
+        TestLibraryProfile profile = TestLibraryProfile.getInstance(psiFile);
+
+        ProjectRootManagerEx.getInstanceEx(getProject()).makeRootsChange(EmptyRunnable.getInstance(), false, true);
+
+        assertNotSame(profile, TestLibraryProfile.getInstance(psiFile));
+    }
+
+    private PsiFile createProductionFile() {
+        return myFixture.addFileToProject("Production.java", "public class Production {}");
+    }
+}
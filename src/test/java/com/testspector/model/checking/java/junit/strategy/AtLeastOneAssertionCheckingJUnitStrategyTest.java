@@ -1,9 +1,7 @@
 package com.testspector.model.checking.java.junit.strategy;
 
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiMethodCallExpression;
 import com.testspector.model.checking.BestPracticeViolation;
-import com.testspector.model.checking.java.common.search.ElementSearchResult;
 import com.testspector.model.checking.java.common.search.QueriesRepository;
 import com.testspector.model.enums.BestPractice;
 import org.easymock.EasyMock;
@@ -11,7 +9,6 @@ import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,8 +31,8 @@ public class AtLeastOneAssertionCheckingJUnitStrategyTest extends JUnitStrategyT
         String testMethodName = "testWithNoAssertions";
         PsiMethod testMethodWithoutAssertions = this.javaTestElementUtil.createTestMethod(testMethodName, Collections.singletonList("@Test"));
         testMethodWithoutAssertions = (PsiMethod) testClass.add(testMethodWithoutAssertions);
-        EasyMock.expect(elementSearchEngine.findByQuery(EasyMock.eq(testMethodWithoutAssertions), EasyMock.eq(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)))
-                .andReturn(new ElementSearchResult<>(new ArrayList<>(), new ArrayList<>())).times(1);
+        EasyMock.expect(elementSearchEngine.exists(EasyMock.eq(testMethodWithoutAssertions), EasyMock.eq(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)))
+                .andReturn(false).times(1);
         EasyMock.replay(methodResolver, elementSearchEngine);
         List<BestPracticeViolation> expectedViolations = Collections.singletonList(
                 new BestPracticeViolation(
@@ -60,15 +57,12 @@ public class AtLeastOneAssertionCheckingJUnitStrategyTest extends JUnitStrategyT
         String testMethodName = "testWithOneAssertion";
         PsiMethod testWithOneAssertion = this.javaTestElementUtil
                 .createTestMethod(testMethodName, Collections.singletonList("@Test"));
-        PsiMethodCallExpression assertionMethodCall = (PsiMethodCallExpression) testWithOneAssertion.getBody()
+        testWithOneAssertion.getBody()
                 .add(this.psiElementFactory.createExpressionFromText("Assert.assertTrue(true)", null));
         testWithOneAssertion = (PsiMethod) testClass.add(testWithOneAssertion);
         EasyMock.expect(elementSearchEngine
-                .findByQuery(EasyMock.eq(testWithOneAssertion), EasyMock.eq(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)))
-                .andReturn(new ElementSearchResult<>(new ArrayList<>(), Collections.singletonList(assertionMethodCall))).times(1);
-        EasyMock.expect(elementSearchEngine
-                .findByQuery(EasyMock.eq(assertionMethodCall), EasyMock.eq(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)))
-                .andReturn(new ElementSearchResult<>(new ArrayList<>(), new ArrayList<>())).times(1);
+                .exists(EasyMock.eq(testWithOneAssertion), EasyMock.eq(QueriesRepository.FIND_ALL_ASSERTION_METHOD_CALL_EXPRESSIONS)))
+                .andReturn(true).times(1);
         EasyMock.replay(elementSearchEngine);
         // When
         List<BestPracticeViolation> foundViolations = strategy.checkBestPractices(testWithOneAssertion);
@@ -74,14 +74,12 @@ public class NoGlobalStaticPropertiesJUnitCheckingJUnitStrategyTest extends JUni
 
     @Test
     public void checkBestPractices_TestDoestNotReferenceToAnyStaticNotFinalConstants_NoViolationsShouldBeFound() {
-        PsiField staticFinalStringConstant = psiElementFactory
-                .createFieldFromText("private static final String EXAMPLE_SECURE_CONSTANT = \"VALUE\"", null);
         PsiMethod testMethod = this.javaTestElementUtil.createTestMethod("testMethod", Collections.singletonList("@Test"));
         testMethod = (PsiMethod) testClass.add(testMethod);
         EasyMock.expect(contextIndicator.isInTestContext()).andReturn((element) -> true).times(1);
         EasyMock.replay(contextIndicator);
         EasyMock.expect(elementSearchEngine.findByQuery(EasyMock.eq(testMethod), EasyMock.eq(QueriesRepository.FIND_ALL_STATIC_PROPS)))
-                .andReturn(new ElementSearchResult<>(new ArrayList<>(), Collections.singletonList(staticFinalStringConstant)))
+                .andReturn(new ElementSearchResult<>(new ArrayList<>(), new ArrayList<>()))
                 .times(1);
         EasyMock.replay(elementSearchEngine);
 
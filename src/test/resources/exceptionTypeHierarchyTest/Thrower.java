@@ -0,0 +1,20 @@
+public class Thrower {
+
+    public void throwChild() throws ChildException {
+    }
+
+    public void throwBase() throws BaseException {
+    }
+
+    public void throwNothing() {
+    }
+}
+
+class BaseException extends Exception {
+}
+
+class ChildException extends BaseException {
+}
+
+class OtherException extends Exception {
+}
@@ -0,0 +1,16 @@
+public class HelperCallingTest {
+
+    public void testCallingHelper() {
+        helper();
+    }
+
+    public void testWithoutHelpers() {
+        int value = 1;
+    }
+
+    public void helper() {
+        try {
+        } catch (Exception e) {
+        }
+    }
+}
@@ -0,0 +1,36 @@
+public class StaticStateTest extends BaseStaticStateTest {
+
+    private static final String CONSTANT = "";
+
+    private static String ownState = "";
+
+    public void usesUtility() {
+        StaticStateUtility.reset();
+    }
+}
+
+class BaseStaticStateTest {
+
+    protected static int inheritedCounter;
+}
+
+class StaticStateUtility {
+
+    private static String utilityState;
+
+    static void reset() {
+        utilityState = null;
+    }
+}
+
+class UnrelatedStaticState {
+
+    static int unrelatedState;
+}
+
+class NoStaticStateTest {
+
+    public void test() {
+        int value = 1;
+    }
+}
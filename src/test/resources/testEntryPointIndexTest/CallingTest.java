@@ -0,0 +1,16 @@
+public class CallingTest {
+
+    public void firstTest() {
+        helper();
+    }
+
+    public void secondTest() {
+        new CallingTest().helper();
+    }
+
+    public void unrelated() {
+    }
+
+    public void helper() {
+    }
+}